@@ -0,0 +1,80 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core;
+
+import com.scandit.datacapture.flutter.core.utils.FlutterEmitter;
+import com.scandit.datacapture.frameworks.core.CoreModule;
+import com.scandit.datacapture.frameworks.core.locator.DefaultServiceLocator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DataCaptureCoreMethodHandlerBenchmark {
+    private DataCaptureCoreMethodHandler handler;
+    private MethodCall executeCoreCall;
+    private MethodCall getDefaultsCall;
+    private final CapturingResult result = new CapturingResult();
+
+    @Setup
+    public void setUp() {
+        DefaultServiceLocator serviceLocator = DefaultServiceLocator.getInstance();
+        serviceLocator.register(CoreModule.create(new FlutterEmitter("benchmark/event_channel")));
+        handler = new DataCaptureCoreMethodHandler(serviceLocator);
+
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("moduleName", "CoreModule");
+        arguments.put("methodName", "isTorchAvailable");
+        arguments.put("cameraPosition", "worldFacing");
+        executeCoreCall = new MethodCall("executeCore", arguments);
+        getDefaultsCall = new MethodCall("getDefaults", null);
+    }
+
+    @Benchmark
+    public Object executeCore() {
+        handler.onMethodCall(executeCoreCall, result);
+        return result.value;
+    }
+
+    @Benchmark
+    public Object getDefaults() {
+        handler.onMethodCall(getDefaultsCall, result);
+        return result.value;
+    }
+
+    static final class CapturingResult implements MethodChannel.Result {
+        Object value;
+
+        @Override
+        public void success(Object result) {
+            value = result;
+        }
+
+        @Override
+        public void error(String errorCode, String errorMessage, Object errorDetails) {
+            value = errorCode;
+        }
+
+        @Override
+        public void notImplemented() {
+            value = null;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.ui;
+
+import android.content.Context;
+import android.view.View;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes a stack of platform views and pops it again, like navigating into and back out of
+ * nested scanner screens.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FlutterBasePlatformViewBenchmark {
+    @Param({"1", "8", "32"})
+    public int depth;
+
+    private Context context;
+    private BenchmarkPlatformView[] views;
+
+    @Setup
+    public void setUp() {
+        context = new Context() {
+        };
+        views = new BenchmarkPlatformView[depth];
+    }
+
+    @Benchmark
+    public int pushAndPop() {
+        for (int i = 0; i < depth; i++) {
+            views[i] = new BenchmarkPlatformView(context);
+        }
+        int notifications = 0;
+        for (int i = depth - 1; i >= 0; i--) {
+            views[i].dispose();
+            notifications += views[i].notifications;
+        }
+        return notifications;
+    }
+
+    static final class BenchmarkPlatformView extends FlutterBasePlatformView {
+        int notifications;
+
+        BenchmarkPlatformView(Context context) {
+            super(context);
+        }
+
+        @Override
+        public View getView() {
+            return this;
+        }
+
+        @Override
+        public void onCurrentTopViewVisibleChanged(String topViewId) {
+            notifications++;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import io.flutter.plugin.common.EventChannel;
+
+public class CountingEventSink implements EventChannel.EventSink {
+    public long count;
+    public Object last;
+
+    @Override
+    public void success(Object event) {
+        count++;
+        last = event;
+    }
+
+    @Override
+    public void error(String errorCode, String errorMessage, Object errorDetails) {
+    }
+
+    @Override
+    public void endOfStream() {
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import com.scandit.datacapture.frameworks.core.utils.DefaultMainThread;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.flutter.plugin.common.BinaryMessenger;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FlutterEmitterBenchmark {
+    private static final String ZOOM_EVENT = "ZoomListener.onZoomLevelChanged";
+    private static final String SIZE_EVENT = "DataCaptureViewListener.onSizeChanged";
+
+    @Param({"json", "binary"})
+    public String encoding;
+
+    @Param({"direct", "batched"})
+    public String delivery;
+
+    private FlutterEmitter emitter;
+    private Map<String, Object> zoomPayload;
+    private Map<String, Object> sizePayload;
+
+    @Setup
+    public void setUp() {
+        emitter = new FlutterEmitter("benchmark/event_channel", DefaultMainThread.getInstance());
+        if ("binary".equals(encoding)) {
+            emitter.setBinaryEncoding(ZOOM_EVENT, true);
+            emitter.setBinaryEncoding(SIZE_EVENT, true);
+        }
+        if ("batched".equals(delivery)) {
+            emitter.enableBatching(FlutterEventBatcher.FLUSH_ON_VSYNC);
+        }
+
+        BinaryMessenger messenger = new NoopBinaryMessenger();
+        emitter.addChannel(messenger);
+        emitter.channels.get(messenger.hashCode()).listen(new CountingEventSink());
+
+        zoomPayload = new HashMap<>();
+        zoomPayload.put("viewId", 42);
+        zoomPayload.put("oldZoomLevel", 1.0);
+        zoomPayload.put("newZoomLevel", 2.5);
+
+        Map<String, Object> size = new HashMap<>();
+        size.put("width", 1080.0);
+        size.put("height", 2340.0);
+        sizePayload = new HashMap<>();
+        sizePayload.put("viewId", 42);
+        sizePayload.put("size", size);
+        sizePayload.put("orientation", "portrait");
+    }
+
+    @Benchmark
+    public void emitZoomLevelChanged() {
+        emitter.emit(ZOOM_EVENT, zoomPayload);
+    }
+
+    @Benchmark
+    public void emitSizeChanged() {
+        emitter.emit(SIZE_EVENT, sizePayload);
+    }
+}
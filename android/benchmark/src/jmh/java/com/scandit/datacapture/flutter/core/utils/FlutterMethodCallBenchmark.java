@@ -0,0 +1,68 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.flutter.plugin.common.MethodCall;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FlutterMethodCallBenchmark {
+    private MethodCall call;
+
+    @Setup
+    public void setUp() {
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("moduleName", "CoreModule");
+        arguments.put("methodName", "selectZoomLevel");
+        // Dart sends whole numbers declared as double, which convertNumber narrows.
+        arguments.put("viewId", 1234.0);
+        arguments.put("zoomLevel", 2.5);
+        call = new MethodCall("executeCore", arguments);
+    }
+
+    @Benchmark
+    public FlutterMethodCall wrap() {
+        return new FlutterMethodCall(call);
+    }
+
+    @Benchmark
+    public String getMethod() {
+        return new FlutterMethodCall(call).getMethod();
+    }
+
+    @Benchmark
+    public Object argumentWholeDouble() {
+        return new FlutterMethodCall(call).argument("viewId");
+    }
+
+    @Benchmark
+    public Object argumentFractionalDouble() {
+        return new FlutterMethodCall(call).argument("zoomLevel");
+    }
+
+    @Benchmark
+    public int getInt() {
+        return new FlutterMethodCall(call).getInt("viewId", -1);
+    }
+
+    @Benchmark
+    public double getDouble() {
+        return new FlutterMethodCall(call).getDouble("zoomLevel", 0);
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import java.nio.ByteBuffer;
+
+import io.flutter.plugin.common.BinaryMessenger;
+
+public class NoopBinaryMessenger implements BinaryMessenger {
+    @Override
+    public void send(String channel, ByteBuffer message) {
+    }
+
+    @Override
+    public void send(String channel, ByteBuffer message, BinaryReply callback) {
+    }
+
+    @Override
+    public void setMessageHandler(String channel, BinaryMessageHandler handler) {
+    }
+}
@@ -0,0 +1,10 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package android.annotation;
+
+public @interface SuppressLint {
+    String[] value();
+}
@@ -0,0 +1,24 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package android.os;
+
+public class Handler {
+    public Handler(Looper looper) {
+    }
+
+    public boolean post(Runnable runnable) {
+        runnable.run();
+        return true;
+    }
+
+    public boolean postDelayed(Runnable runnable, long delayMillis) {
+        runnable.run();
+        return true;
+    }
+
+    public void removeCallbacks(Runnable runnable) {
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package android.view;
+
+public final class Choreographer {
+    private static final Choreographer INSTANCE = new Choreographer();
+
+    public interface FrameCallback {
+        void doFrame(long frameTimeNanos);
+    }
+
+    public static Choreographer getInstance() {
+        return INSTANCE;
+    }
+
+    public void postFrameCallback(FrameCallback callback) {
+        callback.doFrame(System.nanoTime());
+    }
+
+    public void removeFrameCallback(FrameCallback callback) {
+    }
+}
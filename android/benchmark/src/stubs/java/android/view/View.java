@@ -0,0 +1,46 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package android.view;
+
+import android.content.Context;
+
+public class View {
+    public static final int VISIBLE = 0;
+    public static final int INVISIBLE = 4;
+    public static final int GONE = 8;
+
+    private final Context context;
+    ViewParent parent;
+    private int visibility = VISIBLE;
+
+    public View(Context context) {
+        this.context = context;
+    }
+
+    public Context getContext() {
+        return context;
+    }
+
+    public ViewParent getParent() {
+        return parent;
+    }
+
+    public int getVisibility() {
+        return visibility;
+    }
+
+    public void setVisibility(int visibility) {
+        this.visibility = visibility;
+    }
+
+    public void dispatchWindowVisibilityChanged(int visibility) {
+    }
+
+    public boolean post(Runnable action) {
+        action.run();
+        return true;
+    }
+}
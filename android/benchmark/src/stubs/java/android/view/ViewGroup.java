@@ -0,0 +1,49 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package android.view;
+
+import android.content.Context;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public abstract class ViewGroup extends View implements ViewParent {
+    private final List<View> children = new ArrayList<>();
+
+    public ViewGroup(Context context) {
+        super(context);
+    }
+
+    public static class LayoutParams {
+        public static final int MATCH_PARENT = -1;
+    }
+
+    public int getChildCount() {
+        return children.size();
+    }
+
+    public View getChildAt(int index) {
+        return index < children.size() ? children.get(index) : null;
+    }
+
+    public void addView(View child, int width, int height) {
+        children.add(child);
+        child.parent = this;
+    }
+
+    public void removeView(View child) {
+        if (children.remove(child)) {
+            child.parent = null;
+        }
+    }
+
+    public void removeAllViews() {
+        for (View child : children) {
+            child.parent = null;
+        }
+        children.clear();
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package androidx.lifecycle;
+
+public interface DefaultLifecycleObserver {
+    default void onCreate(LifecycleOwner owner) {
+    }
+
+    default void onDestroy(LifecycleOwner owner) {
+    }
+
+    default void onPause(LifecycleOwner owner) {
+    }
+
+    default void onResume(LifecycleOwner owner) {
+    }
+
+    default void onStart(LifecycleOwner owner) {
+    }
+
+    default void onStop(LifecycleOwner owner) {
+    }
+}
@@ -0,0 +1,12 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package androidx.lifecycle;
+
+public abstract class Lifecycle {
+    public abstract void addObserver(DefaultLifecycleObserver observer);
+
+    public abstract void removeObserver(DefaultLifecycleObserver observer);
+}
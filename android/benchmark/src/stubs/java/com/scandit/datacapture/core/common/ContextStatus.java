@@ -0,0 +1,30 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.core.common;
+
+public class ContextStatus {
+    private final int code;
+    private final String message;
+    private final boolean valid;
+
+    ContextStatus(int code, String message, boolean valid) {
+        this.code = code;
+        this.message = message;
+        this.valid = valid;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+}
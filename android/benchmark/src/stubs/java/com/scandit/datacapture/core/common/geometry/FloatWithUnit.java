@@ -0,0 +1,24 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.core.common.geometry;
+
+public class FloatWithUnit {
+    private final float value;
+    private final MeasureUnit unit;
+
+    public FloatWithUnit(float value, MeasureUnit unit) {
+        this.value = value;
+        this.unit = unit;
+    }
+
+    public float getValue() {
+        return value;
+    }
+
+    public MeasureUnit getUnit() {
+        return unit;
+    }
+}
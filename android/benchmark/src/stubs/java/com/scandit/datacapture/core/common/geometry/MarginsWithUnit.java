@@ -0,0 +1,36 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.core.common.geometry;
+
+public class MarginsWithUnit {
+    private final FloatWithUnit left;
+    private final FloatWithUnit top;
+    private final FloatWithUnit right;
+    private final FloatWithUnit bottom;
+
+    public MarginsWithUnit(FloatWithUnit left, FloatWithUnit top, FloatWithUnit right, FloatWithUnit bottom) {
+        this.left = left;
+        this.top = top;
+        this.right = right;
+        this.bottom = bottom;
+    }
+
+    public FloatWithUnit getLeft() {
+        return left;
+    }
+
+    public FloatWithUnit getTop() {
+        return top;
+    }
+
+    public FloatWithUnit getRight() {
+        return right;
+    }
+
+    public FloatWithUnit getBottom() {
+        return bottom;
+    }
+}
@@ -0,0 +1,12 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.core.common.geometry;
+
+public enum MeasureUnit {
+    DIP,
+    PIXEL,
+    FRACTION
+}
@@ -0,0 +1,36 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.core.common.geometry;
+
+public class Quadrilateral {
+    private final Point topLeft;
+    private final Point topRight;
+    private final Point bottomRight;
+    private final Point bottomLeft;
+
+    public Quadrilateral(Point topLeft, Point topRight, Point bottomRight, Point bottomLeft) {
+        this.topLeft = topLeft;
+        this.topRight = topRight;
+        this.bottomRight = bottomRight;
+        this.bottomLeft = bottomLeft;
+    }
+
+    public Point getTopLeft() {
+        return topLeft;
+    }
+
+    public Point getTopRight() {
+        return topRight;
+    }
+
+    public Point getBottomRight() {
+        return bottomRight;
+    }
+
+    public Point getBottomLeft() {
+        return bottomLeft;
+    }
+}
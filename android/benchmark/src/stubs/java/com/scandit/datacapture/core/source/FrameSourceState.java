@@ -0,0 +1,18 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.core.source;
+
+public enum FrameSourceState {
+    ON,
+    OFF,
+    STARTING,
+    STOPPING,
+    STANDBY,
+    BOOTING_UP,
+    WAKING_UP,
+    GOING_TO_SLEEP,
+    SHUTTING_DOWN
+}
@@ -0,0 +1,26 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.core.ui;
+
+import android.content.Context;
+import android.widget.FrameLayout;
+
+import com.scandit.datacapture.core.common.geometry.Point;
+import com.scandit.datacapture.core.common.geometry.Quadrilateral;
+
+public class DataCaptureView extends FrameLayout {
+    public DataCaptureView(Context context) {
+        super(context);
+    }
+
+    public Point mapFramePointToView(Point point) {
+        return point;
+    }
+
+    public Quadrilateral mapFrameQuadrilateralToView(Quadrilateral quadrilateral) {
+        return quadrilateral;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.frameworks.core;
+
+import android.content.Context;
+
+import com.scandit.datacapture.core.ui.DataCaptureView;
+import com.scandit.datacapture.frameworks.core.events.Emitter;
+import com.scandit.datacapture.frameworks.core.method.FrameworksMethodCall;
+import com.scandit.datacapture.frameworks.core.result.FrameworksResult;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stand-in for the frameworks core module. Method calls complete immediately, so benchmarks
+ * measure the bridge code around the module and not the native SDK.
+ */
+public class CoreModule implements FrameworkModule {
+    private final Emitter emitter;
+    private Context context;
+
+    protected CoreModule(Emitter emitter) {
+        this.emitter = emitter;
+    }
+
+    public static CoreModule create(Emitter emitter) {
+        return new CoreModule(emitter);
+    }
+
+    @Override
+    public void onCreate(Context context) {
+        this.context = context;
+    }
+
+    @Override
+    public void onDestroy() {
+    }
+
+    public void subscribeContextListener(FrameworksResult result) {
+        result.success(null);
+    }
+
+    public Map<String, Object> getDefaults() {
+        Map<String, Object> camera = new HashMap<>();
+        camera.put("defaultPosition", "worldFacing");
+        camera.put("availablePositions", new String[]{"worldFacing", "userFacing"});
+        Map<String, Object> defaults = new HashMap<>();
+        defaults.put("Version", "0.0.0");
+        defaults.put("deviceID", "benchmark");
+        defaults.put("Camera", camera);
+        return defaults;
+    }
+
+    public boolean execute(FrameworksMethodCall call, FrameworksResult result, FrameworkModule module) {
+        result.success(call.getMethod());
+        return true;
+    }
+
+    public DataCaptureView createDataCaptureView(String json, FrameworksResult result) {
+        return new DataCaptureView(context);
+    }
+
+    public void dataCaptureViewDisposed(DataCaptureView view) {
+    }
+}
@@ -0,0 +1,14 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.frameworks.core;
+
+import android.content.Context;
+
+public interface FrameworkModule {
+    void onCreate(Context context);
+
+    void onDestroy();
+}
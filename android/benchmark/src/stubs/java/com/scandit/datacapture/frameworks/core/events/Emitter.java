@@ -0,0 +1,18 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.frameworks.core.events;
+
+import java.util.Map;
+
+public interface Emitter {
+    void emit(String eventName, Map<String, Object> payload);
+
+    boolean hasListenersForEvent(String eventName);
+
+    boolean hasViewSpecificListenersForEvent(int viewId, String eventName);
+
+    boolean hasModeSpecificListenersForEvent(int modeId, String eventName);
+}
@@ -0,0 +1,20 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.frameworks.core.lifecycle;
+
+public interface ActivityLifecycleDispatcher {
+    void dispatchOnCreate();
+
+    void dispatchOnDestroy();
+
+    void dispatchOnPause();
+
+    void dispatchOnResume();
+
+    void dispatchOnStart();
+
+    void dispatchOnStop();
+}
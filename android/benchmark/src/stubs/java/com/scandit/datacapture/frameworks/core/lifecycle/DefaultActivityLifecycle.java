@@ -0,0 +1,42 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.frameworks.core.lifecycle;
+
+public class DefaultActivityLifecycle implements ActivityLifecycleDispatcher {
+    public static final Companion Companion = new Companion();
+
+    private static final DefaultActivityLifecycle INSTANCE = new DefaultActivityLifecycle();
+
+    public static final class Companion {
+        public ActivityLifecycleDispatcher getInstance() {
+            return INSTANCE;
+        }
+    }
+
+    @Override
+    public void dispatchOnCreate() {
+    }
+
+    @Override
+    public void dispatchOnDestroy() {
+    }
+
+    @Override
+    public void dispatchOnPause() {
+    }
+
+    @Override
+    public void dispatchOnResume() {
+    }
+
+    @Override
+    public void dispatchOnStart() {
+    }
+
+    @Override
+    public void dispatchOnStop() {
+    }
+}
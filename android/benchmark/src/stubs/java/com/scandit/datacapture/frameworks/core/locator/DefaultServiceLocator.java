@@ -0,0 +1,35 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.frameworks.core.locator;
+
+import com.scandit.datacapture.frameworks.core.FrameworkModule;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+public class DefaultServiceLocator implements ServiceLocator<FrameworkModule> {
+    private static final DefaultServiceLocator INSTANCE = new DefaultServiceLocator();
+
+    private final ConcurrentHashMap<String, FrameworkModule> modules = new ConcurrentHashMap<>();
+
+    public static DefaultServiceLocator getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void register(FrameworkModule instance) {
+        modules.put(instance.getClass().getSimpleName(), instance);
+    }
+
+    @Override
+    public FrameworkModule resolve(String name) {
+        return modules.get(name);
+    }
+
+    @Override
+    public FrameworkModule remove(String name) {
+        return modules.remove(name);
+    }
+}
@@ -0,0 +1,14 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.frameworks.core.locator;
+
+public interface ServiceLocator<T> {
+    void register(T instance);
+
+    T resolve(String name);
+
+    T remove(String name);
+}
@@ -0,0 +1,18 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.frameworks.core.method;
+
+import java.util.Map;
+
+public interface FrameworksMethodCall {
+    String getMethod();
+
+    <T> T argument(String key);
+
+    boolean hasArgument(String key);
+
+    Map<String, Object> arguments();
+}
@@ -0,0 +1,28 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.frameworks.core.result;
+
+import java.util.List;
+
+public interface FrameworksResult {
+    void success(Object result);
+
+    void error(String errorCode, String errorMessage, Object errorDetails);
+
+    void successAndKeepCallback(Object result);
+
+    void registerCallbackForEvents(List<String> eventNames);
+
+    void unregisterCallbackForEvents(List<String> eventNames);
+
+    void registerModeSpecificCallback(int modeId, List<String> eventNames);
+
+    void unregisterModeSpecificCallback(int modeId, List<String> eventNames);
+
+    void registerViewSpecificCallback(int viewId, List<String> eventNames);
+
+    void unregisterViewSpecificCallback(int viewId, List<String> eventNames);
+}
@@ -0,0 +1,46 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.frameworks.core.result;
+
+import java.util.List;
+
+public class NoopFrameworksResult implements FrameworksResult {
+    @Override
+    public void success(Object result) {
+    }
+
+    @Override
+    public void error(String errorCode, String errorMessage, Object errorDetails) {
+    }
+
+    @Override
+    public void successAndKeepCallback(Object result) {
+    }
+
+    @Override
+    public void registerCallbackForEvents(List<String> eventNames) {
+    }
+
+    @Override
+    public void unregisterCallbackForEvents(List<String> eventNames) {
+    }
+
+    @Override
+    public void registerModeSpecificCallback(int modeId, List<String> eventNames) {
+    }
+
+    @Override
+    public void unregisterModeSpecificCallback(int modeId, List<String> eventNames) {
+    }
+
+    @Override
+    public void registerViewSpecificCallback(int viewId, List<String> eventNames) {
+    }
+
+    @Override
+    public void unregisterViewSpecificCallback(int viewId, List<String> eventNames) {
+    }
+}
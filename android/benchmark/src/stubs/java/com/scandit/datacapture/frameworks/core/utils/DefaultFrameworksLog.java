@@ -0,0 +1,23 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.frameworks.core.utils;
+
+public class DefaultFrameworksLog implements FrameworksLog {
+    private static final DefaultFrameworksLog INSTANCE = new DefaultFrameworksLog();
+
+    public static DefaultFrameworksLog getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void error(String message) {
+        System.err.println(message);
+    }
+
+    @Override
+    public void info(String message) {
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.frameworks.core.utils;
+
+/**
+ * Runs every task inline on the calling thread.
+ */
+public class DefaultMainThread implements MainThread {
+    private static final DefaultMainThread INSTANCE = new DefaultMainThread();
+
+    public static DefaultMainThread getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void runOnMainThread(Runnable runnable) {
+        runnable.run();
+    }
+}
@@ -0,0 +1,12 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.frameworks.core.utils;
+
+public interface FrameworksLog {
+    void error(String message);
+
+    void info(String message);
+}
@@ -0,0 +1,10 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.frameworks.core.utils;
+
+public interface MainThread {
+    void runOnMainThread(Runnable runnable);
+}
@@ -0,0 +1,16 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package io.flutter.embedding.engine.plugins.activity;
+
+public interface ActivityAware {
+    void onAttachedToActivity(ActivityPluginBinding binding);
+
+    void onDetachedFromActivityForConfigChanges();
+
+    void onReattachedToActivityForConfigChanges(ActivityPluginBinding binding);
+
+    void onDetachedFromActivity();
+}
@@ -0,0 +1,10 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package io.flutter.embedding.engine.plugins.activity;
+
+public interface ActivityPluginBinding {
+    Object getLifecycle();
+}
@@ -0,0 +1,20 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package io.flutter.embedding.engine.plugins.lifecycle;
+
+import androidx.lifecycle.Lifecycle;
+
+public class HiddenLifecycleReference {
+    private final Lifecycle lifecycle;
+
+    public HiddenLifecycleReference(Lifecycle lifecycle) {
+        this.lifecycle = lifecycle;
+    }
+
+    public Lifecycle getLifecycle() {
+        return lifecycle;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package io.flutter.plugin.common;
+
+import java.nio.ByteBuffer;
+
+public interface BinaryMessenger {
+    interface TaskQueue {
+    }
+
+    class TaskQueueOptions {
+        private boolean isSerial = true;
+
+        public boolean getIsSerial() {
+            return isSerial;
+        }
+
+        public TaskQueueOptions setIsSerial(boolean isSerial) {
+            this.isSerial = isSerial;
+            return this;
+        }
+    }
+
+    interface BinaryReply {
+        void reply(ByteBuffer reply);
+    }
+
+    interface BinaryMessageHandler {
+        void onMessage(ByteBuffer message, BinaryReply reply);
+    }
+
+    default TaskQueue makeBackgroundTaskQueue() {
+        return makeBackgroundTaskQueue(new TaskQueueOptions());
+    }
+
+    default TaskQueue makeBackgroundTaskQueue(TaskQueueOptions options) {
+        throw new UnsupportedOperationException("makeBackgroundTaskQueue not implemented.");
+    }
+
+    void send(String channel, ByteBuffer message);
+
+    void send(String channel, ByteBuffer message, BinaryReply callback);
+
+    void setMessageHandler(String channel, BinaryMessageHandler handler);
+}
@@ -0,0 +1,42 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package io.flutter.plugin.common;
+
+public final class EventChannel {
+    public interface EventSink {
+        void success(Object event);
+
+        void error(String errorCode, String errorMessage, Object errorDetails);
+
+        void endOfStream();
+    }
+
+    public interface StreamHandler {
+        void onListen(Object arguments, EventSink events);
+
+        void onCancel(Object arguments);
+    }
+
+    private StreamHandler handler;
+
+    public EventChannel(BinaryMessenger messenger, String name) {
+        this(messenger, name, StandardMethodCodec.INSTANCE);
+    }
+
+    public EventChannel(BinaryMessenger messenger, String name, MethodCodec codec) {
+    }
+
+    public void setStreamHandler(StreamHandler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Benchmark helper that simulates Dart listening to the channel.
+     */
+    public void listen(EventSink events) {
+        handler.onListen(null, events);
+    }
+}
@@ -0,0 +1,14 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package io.flutter.plugin.common;
+
+import java.nio.ByteBuffer;
+
+public interface MessageCodec<T> {
+    ByteBuffer encodeMessage(T message);
+
+    T decodeMessage(ByteBuffer message);
+}
@@ -0,0 +1,42 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package io.flutter.plugin.common;
+
+import java.util.Map;
+
+public final class MethodCall {
+    public final String method;
+    public final Object arguments;
+
+    public MethodCall(String method, Object arguments) {
+        this.method = method;
+        this.arguments = arguments;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T arguments() {
+        return (T) arguments;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T argument(String key) {
+        if (arguments == null) {
+            return null;
+        } else if (arguments instanceof Map) {
+            return (T) ((Map<?, ?>) arguments).get(key);
+        }
+        throw new ClassCastException();
+    }
+
+    public boolean hasArgument(String key) {
+        if (arguments == null) {
+            return false;
+        } else if (arguments instanceof Map) {
+            return ((Map<?, ?>) arguments).containsKey(key);
+        }
+        throw new ClassCastException();
+    }
+}
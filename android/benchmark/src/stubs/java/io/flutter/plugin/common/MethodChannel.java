@@ -0,0 +1,37 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package io.flutter.plugin.common;
+
+public class MethodChannel {
+    public interface Result {
+        void success(Object result);
+
+        void error(String errorCode, String errorMessage, Object errorDetails);
+
+        void notImplemented();
+    }
+
+    public interface MethodCallHandler {
+        void onMethodCall(MethodCall call, Result result);
+    }
+
+    public MethodChannel(BinaryMessenger messenger, String name) {
+        this(messenger, name, StandardMethodCodec.INSTANCE);
+    }
+
+    public MethodChannel(BinaryMessenger messenger, String name, MethodCodec codec) {
+        this(messenger, name, codec, null);
+    }
+
+    public MethodChannel(BinaryMessenger messenger, String name, MethodCodec codec, BinaryMessenger.TaskQueue taskQueue) {
+    }
+
+    public void setMethodCallHandler(MethodCallHandler handler) {
+    }
+
+    public void invokeMethod(String method, Object arguments) {
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package io.flutter.plugin.common;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Port of the encoding side of the Flutter codec, close enough to the original to compare the
+ * cost of codec and JSON payloads. Decoding is only implemented for the tagged values it writes.
+ */
+public class StandardMessageCodec implements MessageCodec<Object> {
+    public static final StandardMessageCodec INSTANCE = new StandardMessageCodec();
+
+    private static final byte NULL = 0;
+    private static final byte TRUE = 1;
+    private static final byte FALSE = 2;
+    private static final byte INT = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 6;
+    private static final byte STRING = 7;
+    private static final byte BYTE_ARRAY = 8;
+    private static final byte LIST = 12;
+    private static final byte MAP = 13;
+
+    @Override
+    public ByteBuffer encodeMessage(Object message) {
+        if (message == null) {
+            return null;
+        }
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        writeValue(stream, message);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(stream.size());
+        buffer.put(stream.toByteArray());
+        return buffer;
+    }
+
+    @Override
+    public Object decodeMessage(ByteBuffer message) {
+        if (message == null) {
+            return null;
+        }
+        message.order(ByteOrder.nativeOrder());
+        return readValue(message);
+    }
+
+    protected void writeValue(ByteArrayOutputStream stream, Object value) {
+        if (value == null) {
+            stream.write(NULL);
+        } else if (value instanceof Boolean) {
+            stream.write((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            stream.write(INT);
+            writeInt(stream, ((Number) value).intValue());
+        } else if (value instanceof Long) {
+            stream.write(LONG);
+            writeLong(stream, (Long) value);
+        } else if (value instanceof Float || value instanceof Double) {
+            stream.write(DOUBLE);
+            writeAlignment(stream, 8);
+            writeDouble(stream, ((Number) value).doubleValue());
+        } else if (value instanceof CharSequence) {
+            stream.write(STRING);
+            writeBytes(stream, value.toString().getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof byte[]) {
+            stream.write(BYTE_ARRAY);
+            writeBytes(stream, (byte[]) value);
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            stream.write(LIST);
+            writeSize(stream, list.size());
+            for (Object item : list) {
+                writeValue(stream, item);
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            stream.write(MAP);
+            writeSize(stream, map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(stream, entry.getKey());
+                writeValue(stream, entry.getValue());
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported value: '" + value + "' of type '" + value.getClass() + "'");
+        }
+    }
+
+    protected final Object readValue(ByteBuffer buffer) {
+        return readValueOfType(buffer.get(), buffer);
+    }
+
+    protected Object readValueOfType(byte type, ByteBuffer buffer) {
+        switch (type) {
+            case NULL:
+                return null;
+            case TRUE:
+                return true;
+            case FALSE:
+                return false;
+            case INT:
+                return buffer.getInt();
+            case LONG:
+                return buffer.getLong();
+            case DOUBLE:
+                readAlignment(buffer, 8);
+                return buffer.getDouble();
+            case STRING:
+                return new String(readBytes(buffer), StandardCharsets.UTF_8);
+            case BYTE_ARRAY:
+                return readBytes(buffer);
+            case LIST: {
+                int size = readSize(buffer);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(buffer));
+                }
+                return list;
+            }
+            case MAP: {
+                int size = readSize(buffer);
+                Map<Object, Object> map = new HashMap<>();
+                for (int i = 0; i < size; i++) {
+                    map.put(readValue(buffer), readValue(buffer));
+                }
+                return map;
+            }
+            default:
+                throw new IllegalArgumentException("Message corrupted");
+        }
+    }
+
+    protected static final void writeSize(ByteArrayOutputStream stream, int value) {
+        if (value < 254) {
+            stream.write(value);
+        } else if (value <= 0xffff) {
+            stream.write(254);
+            writeChar(stream, value);
+        } else {
+            stream.write(255);
+            writeInt(stream, value);
+        }
+    }
+
+    protected static final void writeChar(ByteArrayOutputStream stream, int value) {
+        stream.write(value);
+        stream.write(value >>> 8);
+    }
+
+    protected static final void writeInt(ByteArrayOutputStream stream, int value) {
+        stream.write(value);
+        stream.write(value >>> 8);
+        stream.write(value >>> 16);
+        stream.write(value >>> 24);
+    }
+
+    protected static final void writeLong(ByteArrayOutputStream stream, long value) {
+        for (int i = 0; i < 8; i++) {
+            stream.write((int) (value >>> (8 * i)));
+        }
+    }
+
+    protected static final void writeFloat(ByteArrayOutputStream stream, float value) {
+        writeInt(stream, Float.floatToIntBits(value));
+    }
+
+    protected static final void writeDouble(ByteArrayOutputStream stream, double value) {
+        writeLong(stream, Double.doubleToLongBits(value));
+    }
+
+    protected static final void writeBytes(ByteArrayOutputStream stream, byte[] bytes) {
+        writeSize(stream, bytes.length);
+        stream.write(bytes, 0, bytes.length);
+    }
+
+    protected static final void writeAlignment(ByteArrayOutputStream stream, int alignment) {
+        int mod = stream.size() % alignment;
+        if (mod != 0) {
+            for (int i = 0; i < alignment - mod; i++) {
+                stream.write(0);
+            }
+        }
+    }
+
+    protected static final int readSize(ByteBuffer buffer) {
+        int value = buffer.get() & 0xff;
+        if (value < 254) {
+            return value;
+        } else if (value == 254) {
+            return buffer.getChar();
+        } else {
+            return buffer.getInt();
+        }
+    }
+
+    protected static final byte[] readBytes(ByteBuffer buffer) {
+        int length = readSize(buffer);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    protected static final void readAlignment(ByteBuffer buffer, int alignment) {
+        int mod = buffer.position() % alignment;
+        if (mod != 0) {
+            buffer.position(buffer.position() + alignment - mod);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package io.flutter.plugin.common;
+
+public final class StandardMethodCodec implements MethodCodec {
+    public static final StandardMethodCodec INSTANCE = new StandardMethodCodec(StandardMessageCodec.INSTANCE);
+
+    private final StandardMessageCodec messageCodec;
+
+    public StandardMethodCodec(StandardMessageCodec messageCodec) {
+        this.messageCodec = messageCodec;
+    }
+}
@@ -0,0 +1,14 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package io.flutter.plugin.platform;
+
+import android.view.View;
+
+public interface PlatformView {
+    View getView();
+
+    void dispose();
+}
@@ -0,0 +1,24 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package io.flutter.plugin.platform;
+
+import android.content.Context;
+
+import io.flutter.plugin.common.MessageCodec;
+
+public abstract class PlatformViewFactory {
+    private final MessageCodec<Object> createArgsCodec;
+
+    public PlatformViewFactory(MessageCodec<Object> createArgsCodec) {
+        this.createArgsCodec = createArgsCodec;
+    }
+
+    public final MessageCodec<Object> getCreateArgsCodec() {
+        return createArgsCodec;
+    }
+
+    public abstract PlatformView create(Context context, int viewId, Object args);
+}
@@ -16,55 +16,104 @@ import com.scandit.datacapture.frameworks.core.utils.DefaultFrameworksLog;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.embedding.engine.plugins.activity.ActivityPluginBinding;
 import io.flutter.embedding.engine.plugins.lifecycle.HiddenLifecycleReference;
+import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.MethodChannel;
+import io.flutter.plugin.common.MethodCodec;
+import io.flutter.plugin.common.StandardMethodCodec;
 
+/**
+ * Base of the plugins of the Scandit Flutter packages. Flutter creates one plugin instance per
+ * engine, so the channels of an instance belong to a single engine.
+ * <p>
+ * Modules are shared by every engine and reference counted: {@link #acquireModule} creates a
+ * module for the first engine that needs it, and the module is disposed when the last engine
+ * holding it detaches. Engines attaching or detaching only synchronize on the modules they
+ * share, never on the calls of other engines.
+ * <p>
+ * Plugins opt in to this by returning {@code true} from {@link #setsUpModulesPerEngine()}.
+ * The others keep the previous contract: {@link #setupModules} only runs for the first engine
+ * of the plugin, and the modules passed to {@link #registerModule} are disposed when the last
+ * engine of the plugin detaches.
+ */
 public abstract class BaseFlutterPlugin implements FlutterPlugin {
-    private final ServiceLocator<FrameworkModule> serviceLocator = DefaultServiceLocator.getInstance();
+    private static final ConcurrentHashMap<String, SharedModule> sharedModules = new ConcurrentHashMap<>();
+
+    // Number of engines each plugin class is attached to.
+    private static final ConcurrentHashMap<Class<?>, AtomicInteger> attachedInstances = new ConcurrentHashMap<>();
 
-    private static final ReentrantLock lock = new ReentrantLock();
+    // Modules registered once per plugin class, released with the last engine of that class.
+    private static final ConcurrentHashMap<Class<?>, CopyOnWriteArrayList<SharedModule>> registeredModules =
+            new ConcurrentHashMap<>();
+
+    private final ServiceLocator<FrameworkModule> serviceLocator = DefaultServiceLocator.getInstance();
 
     private WeakReference<FlutterPluginBinding> binding = new WeakReference<>(null);
 
     private final ArrayList<MethodChannel> channels = new ArrayList<>();
 
-    private final ArrayList<String> modules = new ArrayList<>();
+    // The modules this engine holds a reference on. Deferred modules are acquired off the main thread.
+    private final CopyOnWriteArrayList<SharedModule> acquiredModules = new CopyOnWriteArrayList<>();
 
     @Override
     public void onAttachedToEngine(@NonNull FlutterPluginBinding binding) {
-        lock.lock();
-        try {
-            this.binding = new WeakReference<>(binding);
-            if (getActivePluginInstanceCount() == 1) {
-                setupModules(binding);
-            }
-            setupMethodChannels(binding, serviceLocator);
-            setupPlatformViewRegistry(binding, serviceLocator);
-        } finally {
-            lock.unlock();
+        attachedInstances.computeIfAbsent(getClass(), type -> new AtomicInteger(0)).incrementAndGet();
+        this.binding = new WeakReference<>(binding);
+        if (setsUpModulesPerEngine() || getActivePluginInstanceCount() == 1) {
+            setupModules(binding);
         }
+        setupMethodChannels(binding, serviceLocator);
+        setupPlatformViewRegistry(binding, serviceLocator);
     }
 
     @Override
     public void onDetachedFromEngine(@NonNull FlutterPluginBinding binding) {
-        lock.lock();
-        try {
-            this.binding = new WeakReference<>(null);
-            disposeMethodChannels();
-            if (getActivePluginInstanceCount() == 0) {
-                disposeRegisteredModules();
-            }
-        } finally {
-            lock.unlock();
+        disposeMethodChannels();
+        AtomicInteger instances = attachedInstances.get(getClass());
+        if (instances != null) {
+            instances.decrementAndGet();
+        }
+        releaseModules();
+        if (getActivePluginInstanceCount() == 0) {
+            releaseRegisteredModules();
         }
+        this.binding = new WeakReference<>(null);
+    }
+
+    /**
+     * Returns the number of engines this plugin is attached to, including the one attaching.
+     */
+    protected int getActivePluginInstanceCount() {
+        AtomicInteger instances = attachedInstances.get(getClass());
+        return instances == null ? 0 : instances.get();
     }
 
-    protected abstract int getActivePluginInstanceCount();
+    /**
+     * Resets the number of engines the given plugin is attached to.
+     */
+    protected static void resetActivePluginInstanceCount(@NonNull Class<? extends BaseFlutterPlugin> type) {
+        attachedInstances.remove(type);
+    }
 
+    /**
+     * Plugins that acquire their modules through {@link #acquireModule} return {@code true}, so
+     * {@link #setupModules} runs for every engine. By default it only runs for the first engine.
+     */
+    protected boolean setsUpModulesPerEngine() {
+        return false;
+    }
+
+    /**
+     * Called when the plugin is attached to its first engine, or to every engine when
+     * {@link #setsUpModulesPerEngine()} returns {@code true}.
+     */
     protected abstract void setupModules(FlutterPluginBinding binding);
 
     protected abstract void setupMethodChannels(FlutterPluginBinding binding, ServiceLocator<FrameworkModule> serviceLocator);
@@ -82,9 +131,46 @@ public abstract class BaseFlutterPlugin implements FlutterPlugin {
         channels.add(channel);
     }
 
+    /**
+     * Returns the shared module of the given type for this engine, creating it with the factory
+     * when no other engine holds it yet. The reference is released when the engine detaches.
+     */
+    @NonNull
+    protected <T extends FrameworkModule> T acquireModule(@NonNull Class<T> type, @NonNull Supplier<T> factory) {
+        return type.cast(acquireModule(type.getSimpleName(), factory));
+    }
+
+    /**
+     * Called on the engine that releases the last reference of a module, right before the module
+     * is removed and destroyed.
+     */
+    protected void onModuleDisposed(@NonNull FrameworkModule module) {
+        // Platforms can override this function to clean up what belongs to the module
+    }
+
+    /**
+     * Registers a module created in {@link #setupModules}. It is disposed when the last engine of
+     * this plugin detaches. When a module of the same type is already registered, the given
+     * module is destroyed right away and the registered one stays.
+     */
     protected void registerModule(FrameworkModule module) {
-        serviceLocator.register(module);
-        modules.add(module.getClass().getSimpleName());
+        SharedModule sharedModule = sharedModules.computeIfAbsent(module.getClass().getSimpleName(), SharedModule::new);
+        FrameworkModule registeredModule = sharedModule.acquire(serviceLocator, () -> module);
+        if (setsUpModulesPerEngine()) {
+            acquiredModules.add(sharedModule);
+        } else {
+            registeredModules.computeIfAbsent(getClass(), type -> new CopyOnWriteArrayList<>()).add(sharedModule);
+        }
+        if (registeredModule != module) {
+            module.onDestroy();
+        }
+    }
+
+    private FrameworkModule acquireModule(String name, Supplier<? extends FrameworkModule> factory) {
+        SharedModule sharedModule = sharedModules.computeIfAbsent(name, SharedModule::new);
+        FrameworkModule module = sharedModule.acquire(serviceLocator, factory);
+        acquiredModules.add(sharedModule);
+        return module;
     }
 
     protected <T extends FrameworkModule> T resolveModule(Class<T> type) {
@@ -98,9 +184,34 @@ public abstract class BaseFlutterPlugin implements FlutterPlugin {
         }
     }
 
+    /**
+     * Plugins whose method call handlers can run off the UI thread override this to receive
+     * their calls, including the decoding of the arguments, on a serial background task queue.
+     */
+    protected boolean shouldUseBackgroundTaskQueue() {
+        return false;
+    }
+
+    /**
+     * The codec of the channels created with {@link #createChannel}, plugins that exchange
+     * typed values with their Dart side override this.
+     */
+    @NonNull
+    protected MethodCodec getMethodCodec() {
+        return StandardMethodCodec.INSTANCE;
+    }
+
     @NonNull
     protected MethodChannel createChannel(FlutterPluginBinding binding, String channelName) {
-        return new MethodChannel(binding.getBinaryMessenger(), channelName);
+        BinaryMessenger messenger = binding.getBinaryMessenger();
+        MethodCodec codec = getMethodCodec();
+        if (shouldUseBackgroundTaskQueue()) {
+            BinaryMessenger.TaskQueue taskQueue = messenger.makeBackgroundTaskQueue(
+                    new BinaryMessenger.TaskQueueOptions().setIsSerial(true)
+            );
+            return new MethodChannel(messenger, channelName, codec, taskQueue);
+        }
+        return new MethodChannel(messenger, channelName, codec);
     }
 
     protected void attachLifecycleObserver(@Nullable ActivityPluginBinding binding) {
@@ -129,9 +240,52 @@ public abstract class BaseFlutterPlugin implements FlutterPlugin {
         channels.clear();
     }
 
-    private void disposeRegisteredModules() {
-        for (String moduleName : modules) {
-            removeModuleByName(moduleName);
+    private void releaseModules() {
+        for (SharedModule sharedModule : acquiredModules) {
+            sharedModule.release(this);
+        }
+        acquiredModules.clear();
+    }
+
+    private void releaseRegisteredModules() {
+        CopyOnWriteArrayList<SharedModule> modules = registeredModules.remove(getClass());
+        if (modules == null) return;
+
+        for (SharedModule sharedModule : modules) {
+            sharedModule.release(this);
+        }
+    }
+
+    private static final class SharedModule {
+        private final String name;
+
+        // Guarded by this.
+        private FrameworkModule module;
+        private int references;
+
+        SharedModule(String name) {
+            this.name = name;
+        }
+
+        synchronized FrameworkModule acquire(
+                ServiceLocator<FrameworkModule> serviceLocator,
+                Supplier<? extends FrameworkModule> factory
+        ) {
+            if (references == 0) {
+                module = factory.get();
+                serviceLocator.register(module);
+            }
+            references++;
+            return module;
+        }
+
+        // Disposes under the lock, so an engine attaching meanwhile creates the next module only afterwards.
+        synchronized void release(BaseFlutterPlugin plugin) {
+            if (references == 0 || --references > 0) return;
+
+            plugin.onModuleDisposed(module);
+            plugin.removeModuleByName(name);
+            module = null;
         }
     }
 }
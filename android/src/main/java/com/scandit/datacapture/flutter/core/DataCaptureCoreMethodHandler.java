@@ -6,7 +6,21 @@
 package com.scandit.datacapture.flutter.core;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
+import com.scandit.datacapture.core.common.geometry.Point;
+import com.scandit.datacapture.core.common.geometry.Quadrilateral;
+import com.scandit.datacapture.core.ui.DataCaptureView;
+import com.scandit.datacapture.flutter.core.ui.FlutterCoordinateMapper;
+import com.scandit.datacapture.flutter.core.ui.FlutterDataCaptureView;
+import com.scandit.datacapture.flutter.core.utils.FlutterBridgeMetrics;
+import com.scandit.datacapture.flutter.core.utils.FlutterCameraStateCache;
+import com.scandit.datacapture.flutter.core.utils.FlutterCommandBatch;
+import com.scandit.datacapture.flutter.core.utils.FlutterDefaultsCache;
+import com.scandit.datacapture.flutter.core.utils.FlutterDeferredModule;
+import com.scandit.datacapture.flutter.core.utils.FlutterEventScope;
+import com.scandit.datacapture.flutter.core.utils.FlutterExecutionPolicy;
+import com.scandit.datacapture.flutter.core.utils.FlutterJsonSnapshots;
 import com.scandit.datacapture.flutter.core.utils.FlutterResult;
 import com.scandit.datacapture.frameworks.core.CoreModule;
 import com.scandit.datacapture.frameworks.core.FrameworkModule;
@@ -19,6 +33,10 @@ import io.flutter.plugin.common.MethodChannel;
 
 import org.json.JSONObject;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import com.scandit.datacapture.flutter.core.utils.FlutterMethodCall;
 
 public class DataCaptureCoreMethodHandler implements MethodChannel.MethodCallHandler {
@@ -27,36 +45,151 @@ public class DataCaptureCoreMethodHandler implements MethodChannel.MethodCallHan
 
     public static final String METHOD_CHANNEL_NAME = "com.scandit.datacapture.core/method_channel";
 
+    // Dart passes this id when it can assemble a large result from chunks sent as events.
+    private static final String FIELD_CHUNKED_RESULT_ID = "chunkedResultId";
+
+    private static final String REJECTED_ERROR_CODE = "EXECUTION_REJECTED";
+
+    private static final String MODULE_UNAVAILABLE_ERROR_CODE = "MODULE_UNAVAILABLE";
+    private static final String MODULE_UNAVAILABLE_MESSAGE = "The core module is not available";
+
     private final ServiceLocator<FrameworkModule> serviceLocator;
     private final MainThread mainThread;
 
+    @Nullable
+    private final FlutterEventScope eventScope;
+
+    @Nullable
+    private final FlutterExecutionPolicy executionPolicy;
+
+    @Nullable
+    private final FlutterDeferredModule<CoreModule> deferredModule;
+
+    private final FlutterJsonSnapshots jsonSnapshots = new FlutterJsonSnapshots();
+
     public DataCaptureCoreMethodHandler(ServiceLocator<FrameworkModule> serviceLocator) {
         this(serviceLocator, DefaultMainThread.getInstance());
     }
 
     public DataCaptureCoreMethodHandler(ServiceLocator<FrameworkModule> serviceLocator, MainThread mainThread) {
+        this(serviceLocator, mainThread, null);
+    }
+
+    public DataCaptureCoreMethodHandler(
+            ServiceLocator<FrameworkModule> serviceLocator,
+            MainThread mainThread,
+            @Nullable FlutterEventScope eventScope
+    ) {
+        this(serviceLocator, mainThread, eventScope, null);
+    }
+
+    public DataCaptureCoreMethodHandler(
+            ServiceLocator<FrameworkModule> serviceLocator,
+            MainThread mainThread,
+            @Nullable FlutterEventScope eventScope,
+            @Nullable FlutterExecutionPolicy executionPolicy
+    ) {
+        this(serviceLocator, mainThread, eventScope, executionPolicy, null);
+    }
+
+    /**
+     * With a deferred module, calls wait for the module to be initialized instead of resolving
+     * it from the service locator.
+     */
+    public DataCaptureCoreMethodHandler(
+            ServiceLocator<FrameworkModule> serviceLocator,
+            MainThread mainThread,
+            @Nullable FlutterEventScope eventScope,
+            @Nullable FlutterExecutionPolicy executionPolicy,
+            @Nullable FlutterDeferredModule<CoreModule> deferredModule
+    ) {
         this.serviceLocator = serviceLocator;
         this.mainThread = mainThread;
+        this.eventScope = eventScope;
+        this.executionPolicy = executionPolicy;
+        this.deferredModule = deferredModule;
+        if (eventScope != null) {
+            // View ids are picked per view, the snapshot of a disposed view is never patched again.
+            eventScope.addViewRemovedListener(jsonSnapshots::removeView);
+        }
     }
 
     @Override
     public void onMethodCall(MethodCall call, @NonNull MethodChannel.Result result) {
         switch (call.method) {
             case "getDefaults":
-                result.success(new JSONObject(getSharedModule().getDefaults()).toString());
+                Integer defaultsResultId = call.argument(FIELD_CHUNKED_RESULT_ID);
+                CoreModule defaultsModule = getSharedModule();
+                if (defaultsModule == null) {
+                    replyModuleUnavailable(result);
+                    break;
+                }
+                new FlutterResult(result, eventScope)
+                        .chunked(defaultsResultId != null ? defaultsResultId : FlutterResult.NO_CHUNKED_RESULT)
+                        .success(FlutterDefaultsCache.INSTANCE.get(defaultsModule));
                 break;
 
             case "executeCore":
                 assert call.arguments() != null;
-                CoreModule module = getSharedModule();
-                boolean handled = module.execute(
-                        new FlutterMethodCall(call),
-                        new FlutterResult(result),
-                        module
-                );
-                if (!handled) {
-                    result.error("METHOD_NOT_FOUND", "Unknown Core method", null);
+                long startNanos = FlutterBridgeMetrics.now();
+                FlutterMethodCall methodCall = new FlutterMethodCall(call);
+                FlutterBridgeMetrics.Metric metric = FlutterBridgeMetrics.INSTANCE.getMethod(methodCall.getMethod());
+                if (metric != null) {
+                    metric.addPayloadBytes(argumentBytes(methodCall));
                 }
+                int chunkedResultId = methodCall.getInt(FIELD_CHUNKED_RESULT_ID, FlutterResult.NO_CHUNKED_RESULT);
+                // Cached camera state is answered right away, without hopping to the main thread.
+                // While the ordered lane is busy the call waits its turn, a queued call may
+                // change the camera.
+                boolean laneIdle = executionPolicy == null || executionPolicy.isOrderedLaneIdle();
+                if (laneIdle && FlutterCameraStateCache.INSTANCE.answer(
+                        methodCall,
+                        new FlutterResult(result, eventScope, mainThread).measure(metric, startNanos)
+                )) {
+                    break;
+                }
+                if (executionPolicy == null) {
+                    executeCore(
+                            methodCall,
+                            new FlutterResult(result, eventScope).measure(metric, startNanos).chunked(chunkedResultId),
+                            metric
+                    );
+                } else {
+                    FlutterResult flutterResult = new FlutterResult(result, eventScope, mainThread)
+                            .measure(metric, startNanos)
+                            .chunked(chunkedResultId);
+                    executionPolicy.execute(methodCall.getMethod(), () -> {
+                        if (metric != null) {
+                            metric.recordQueueDelay(startNanos);
+                        }
+                        try {
+                            executeCore(methodCall, flutterResult, metric);
+                        } catch (RuntimeException e) {
+                            // Off the platform thread nobody else would answer the call. A call that
+                            // already replied before failing ignores the error.
+                            flutterResult.error("EXECUTION_FAILED", e.getMessage(), null);
+                        }
+                    }, () -> rejectCall(flutterResult));
+                }
+                break;
+
+            case "executeCoreBatch":
+                executeCoreBatch(call, result);
+                break;
+
+            case "viewPointsForFramePoints":
+            case "viewQuadrilateralsForFrameQuadrilaterals":
+                mapFrameCoordinatesToView(call, result);
+                break;
+
+            case "getBridgeMetrics":
+                boolean reset = Boolean.TRUE.equals(call.argument("reset"));
+                result.success(new JSONObject(FlutterBridgeMetrics.INSTANCE.snapshot(reset)).toString());
+                break;
+
+            case "setBridgeMetricsEnabled":
+                FlutterBridgeMetrics.INSTANCE.setEnabled(Boolean.TRUE.equals(call.argument("enabled")));
+                result.success(null);
                 break;
 
             default:
@@ -65,13 +198,149 @@ public class DataCaptureCoreMethodHandler implements MethodChannel.MethodCallHan
         }
     }
 
+    private void mapFrameCoordinatesToView(MethodCall call, MethodChannel.Result result) {
+        Integer viewId = call.argument("viewId");
+        double[] coordinates = call.argument("coordinates");
+        boolean quadrilaterals = call.method.equals("viewQuadrilateralsForFrameQuadrilaterals");
+        int stride = quadrilaterals ? FlutterCoordinateMapper.QUADRILATERAL_STRIDE : FlutterCoordinateMapper.POINT_STRIDE;
+        if (viewId == null || coordinates == null || coordinates.length % stride != 0) {
+            result.error("INVALID_ARGUMENTS", "Expected a view id and packed coordinates", null);
+            return;
+        }
+
+        FlutterResult flutterResult = new FlutterResult(result, eventScope, mainThread);
+        Runnable mapping = () -> {
+            DataCaptureView view = FlutterDataCaptureView.findDataCaptureView(viewId);
+            if (view == null) {
+                flutterResult.error("VIEW_NOT_FOUND", "No DataCaptureView with id " + viewId, null);
+            } else if (quadrilaterals) {
+                flutterResult.success(FlutterCoordinateMapper.mapFrameQuadrilateralsToView(view, coordinates));
+            } else {
+                flutterResult.success(FlutterCoordinateMapper.mapFramePointsToView(view, coordinates));
+            }
+        };
+        if (executionPolicy != null) {
+            executionPolicy.execute(call.method, mapping, () -> rejectCall(flutterResult));
+        } else {
+            mapping.run();
+        }
+    }
+
+    private static void replyModuleUnavailable(MethodChannel.Result result) {
+        result.error(MODULE_UNAVAILABLE_ERROR_CODE, MODULE_UNAVAILABLE_MESSAGE, null);
+    }
+
+    private static void rejectCall(FlutterResult result) {
+        result.error(REJECTED_ERROR_CODE, "The core plugin was detached before the call could run", null);
+    }
+
+    private void executeCoreBatch(MethodCall call, MethodChannel.Result result) {
+        List<Map<String, Object>> commandArguments = call.argument("commands");
+        if (commandArguments == null) {
+            result.error("INVALID_ARGUMENTS", "Missing commands", null);
+            return;
+        }
+        List<FlutterMethodCall> commands = new ArrayList<>(commandArguments.size());
+        for (Map<String, Object> arguments : commandArguments) {
+            commands.add(new FlutterMethodCall(new MethodCall("executeCore", arguments)));
+        }
+        boolean stopOnError = Boolean.TRUE.equals(call.argument("stopOnError"));
+
+        FlutterResult batchResult = new FlutterResult(result, eventScope, mainThread);
+        FlutterCommandBatch.Dispatcher dispatcher = executionPolicy != null
+                ? executionPolicy::execute
+                : (methodName, command, onRejected) -> command.run();
+        new FlutterCommandBatch(commands, stopOnError, eventScope, dispatcher, (command, commandResult) -> {
+            long startNanos = FlutterBridgeMetrics.now();
+            FlutterBridgeMetrics.Metric metric = FlutterBridgeMetrics.INSTANCE.getMethod(command.getMethod());
+            if (metric != null) {
+                metric.addPayloadBytes(argumentBytes(command));
+            }
+            executeCore(command, commandResult.measure(metric, startNanos), metric);
+        }, batchResult).start();
+    }
+
+    private void executeCore(
+            FlutterMethodCall methodCall,
+            FlutterResult result,
+            @Nullable FlutterBridgeMetrics.Metric metric
+    ) {
+        if (metric == null) {
+            executeCore(methodCall, result);
+            return;
+        }
+        metric.beginSection();
+        try {
+            executeCore(methodCall, result);
+        } finally {
+            metric.endSection();
+        }
+    }
+
+    private void executeCore(FlutterMethodCall methodCall, FlutterResult result) {
+        FlutterMethodCall resolvedCall = jsonSnapshots.resolve(methodCall);
+        if (resolvedCall == null) {
+            result.error(FlutterJsonSnapshots.PATCH_MISMATCH_ERROR_CODE, "Json patch doesn't match the last update", null);
+            return;
+        }
+        if (mapTypedCoordinatesToView(resolvedCall, result)) return;
+
+        CoreModule module = getSharedModule();
+        if (module == null) {
+            result.error(MODULE_UNAVAILABLE_ERROR_CODE, MODULE_UNAVAILABLE_MESSAGE, null);
+            return;
+        }
+        boolean handled = module.execute(resolvedCall, FlutterCameraStateCache.INSTANCE.capture(resolvedCall, result), module);
+        if (!handled) {
+            result.error("METHOD_NOT_FOUND", "Unknown Core method", null);
+        }
+    }
+
+    // Dart sends a typed point or quadrilateral instead of json when the channel uses the core codec,
+    // and gets a typed value back.
+    private static boolean mapTypedCoordinatesToView(FlutterMethodCall methodCall, FlutterResult result) {
+        Object point = methodCall.argument("point");
+        Object quadrilateral = methodCall.argument("quadrilateral");
+        boolean typedPoint = point instanceof Point && methodCall.getMethod().equals("viewPointForFramePoint");
+        boolean typedQuadrilateral = quadrilateral instanceof Quadrilateral
+                && methodCall.getMethod().equals("viewQuadrilateralForFrameQuadrilateral");
+        if (!typedPoint && !typedQuadrilateral) return false;
+
+        int viewId = methodCall.getInt("viewId", 0);
+        DataCaptureView view = FlutterDataCaptureView.findDataCaptureView(viewId);
+        if (view == null) {
+            result.error("VIEW_NOT_FOUND", "No DataCaptureView with id " + viewId, null);
+        } else if (typedPoint) {
+            result.success(view.mapFramePointToView((Point) point));
+        } else {
+            result.success(view.mapFrameQuadrilateralToView((Quadrilateral) quadrilateral));
+        }
+        return true;
+    }
+
+    private static long argumentBytes(FlutterMethodCall methodCall) {
+        long bytes = 0;
+        for (Object value : methodCall.arguments().values()) {
+            if (value instanceof String) {
+                bytes += ((String) value).length();
+            } else if (value instanceof byte[]) {
+                bytes += ((byte[]) value).length;
+            }
+        }
+        return bytes;
+    }
+
     private volatile CoreModule module;
 
+    // Returns null while the core module is unavailable, which is not cached.
+    @Nullable
     private CoreModule getSharedModule() {
         if (module == null) {
             synchronized (this) {
                 if (module == null) {
-                    module = (CoreModule) this.serviceLocator.resolve(CoreModule.class.getSimpleName());
+                    module = deferredModule != null
+                            ? deferredModule.get()
+                            : (CoreModule) this.serviceLocator.resolve(CoreModule.class.getSimpleName());
                 }
             }
         }
@@ -5,47 +5,184 @@
  */
 package com.scandit.datacapture.flutter.core;
 
+import android.view.Choreographer;
+
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
 import com.scandit.datacapture.flutter.core.ui.ScanditPlatformViewFactory;
+import com.scandit.datacapture.flutter.core.utils.FlutterCameraStateCache;
+import com.scandit.datacapture.flutter.core.utils.FlutterCoreMessageCodec;
+import com.scandit.datacapture.flutter.core.utils.FlutterDefaultsCache;
+import com.scandit.datacapture.flutter.core.utils.FlutterDeferredModule;
 import com.scandit.datacapture.flutter.core.utils.FlutterEmitter;
+import com.scandit.datacapture.flutter.core.utils.FlutterEventBatcher;
+import com.scandit.datacapture.flutter.core.utils.FlutterExecutionPolicy;
 import com.scandit.datacapture.frameworks.core.CoreModule;
 import com.scandit.datacapture.frameworks.core.FrameworkModule;
 import com.scandit.datacapture.frameworks.core.locator.ServiceLocator;
 import com.scandit.datacapture.frameworks.core.result.NoopFrameworksResult;
+import com.scandit.datacapture.frameworks.core.utils.DefaultMainThread;
 
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.embedding.engine.plugins.activity.ActivityAware;
 import io.flutter.embedding.engine.plugins.activity.ActivityPluginBinding;
 import io.flutter.plugin.common.MethodChannel;
+import io.flutter.plugin.common.MethodCodec;
+import io.flutter.plugin.common.StandardMethodCodec;
 
 import java.lang.ref.WeakReference;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class ScanditFlutterDataCaptureCorePlugin extends BaseFlutterPlugin implements FlutterPlugin, ActivityAware {
 
-    private final static FlutterEmitter coreEmitter = new FlutterEmitter(DataCaptureCoreMethodHandler.EVENT_CHANNEL_NAME);
+    private final static FlutterEmitter coreEmitter = createCoreEmitter();
 
-    private WeakReference<ActivityPluginBinding> activityBinding = new WeakReference<>(null);
+    // Calls that touch views, the camera or gestures stay on the main thread. Everything else
+    // runs in the background, in order, except for the read-only calls listed as unordered.
+    private static final List<String> MAIN_THREAD_METHODS = Arrays.asList(
+            "getCameraState",
+            "switchCameraToDesiredState",
+            "isTorchAvailable",
+            "isMacroModeAvailable",
+            "selectZoomLevel",
+            "viewPointForFramePoint",
+            "viewQuadrilateralForFrameQuadrilateral",
+            "viewPointsForFramePoints",
+            "viewQuadrilateralsForFrameQuadrilaterals",
+            "registerListenerForViewEvents",
+            "unregisterListenerForViewEvents",
+            "registerFocusGestureListener",
+            "unregisterFocusGestureListener",
+            "triggerFocus",
+            "triggerZoomIn",
+            "triggerZoomOut",
+            "registerZoomGestureListener",
+            "unregisterZoomGestureListener",
+            "updateDataCaptureView",
+            "emitFeedback"
+    );
 
-    private static final AtomicInteger activePluginInstances = new AtomicInteger(0);
+    private static final List<String> UNORDERED_METHODS = Arrays.asList(
+            "getOpenSourceSoftwareLicenseInfo",
+            "getLastFrameAsJson",
+            "getLastFrameOrNullAsJson",
+            "getLastFrameOrNullAsMap"
+    );
 
-    @Override
-    public void onAttachedToEngine(@NonNull FlutterPluginBinding binding) {
-        activePluginInstances.incrementAndGet();
-        super.onAttachedToEngine(binding);
-    }
+    // Reads and writes the common core types as tagged binary values.
+    private static final MethodCodec METHOD_CODEC = new StandardMethodCodec(FlutterCoreMessageCodec.INSTANCE);
+
+    private static final List<String> additionalMainThreadMethods = new CopyOnWriteArrayList<>();
+
+    // Shared by the attached engines and shut down when the last one detaches. Guarded by the class.
+    private static FlutterExecutionPolicy sharedExecutionPolicy;
+    private static int executionPolicyReferences = 0;
+
+    private static volatile boolean executionPolicyEnabled = false;
+
+    private static volatile boolean backgroundTaskQueueEnabled = false;
+
+    private static volatile boolean deferredModuleInitEnabled = false;
+
+    private FlutterDeferredModule<CoreModule> coreModule;
+
+    // Runs the executeCore calls of this engine, only set while the policy is enabled.
+    @Nullable
+    private FlutterExecutionPolicy executionPolicy;
+
+    private WeakReference<ActivityPluginBinding> activityBinding = new WeakReference<>(null);
 
     @Override
     public void onDetachedFromEngine(@NonNull FlutterPluginBinding binding) {
-        activePluginInstances.decrementAndGet();
+        // Nothing may acquire the module for this engine after it released its references.
+        coreModule.cancel();
+        coreEmitter.removeRoutes(binding.getBinaryMessenger());
         super.onDetachedFromEngine(binding);
+        if (executionPolicy != null) {
+            executionPolicy = null;
+            releaseExecutionPolicy();
+        }
+    }
+
+    /**
+     * Opt-in: run executeCore calls through an execution policy instead of on the platform thread.
+     * View, camera, gesture and feedback calls, and the ones added through
+     * {@link #addMainThreadMethods}, stay on the main thread. Read-only queries run on a
+     * background pool, every other call runs in order on a background lane. Must be set before
+     * the plugin is attached to the engine.
+     */
+    public static void setExecutionPolicyEnabled(boolean enabled) {
+        executionPolicyEnabled = enabled;
+    }
+
+    /**
+     * Keeps the given executeCore methods on the main thread when the execution policy is used.
+     * Must be called before the plugin is attached to the engine.
+     */
+    public static void addMainThreadMethods(@NonNull Collection<String> methodNames) {
+        additionalMainThreadMethods.addAll(methodNames);
+    }
+
+    /**
+     * Opt-in: decode and handle the core method channel calls on a serial background task queue.
+     * This also enables the execution policy, so calls that touch views still hop to the main
+     * thread. Must be set before the plugin is attached to the engine.
+     */
+    public static void setBackgroundTaskQueueEnabled(boolean enabled) {
+        backgroundTaskQueueEnabled = enabled;
+    }
+
+    /**
+     * Opt-in: create the core module when it is first used, or on the main thread once the first
+     * frames are drawn, instead of while the plugin is attached to the engine. Must be set before
+     * the plugin is attached to the engine.
+     */
+    public static void setDeferredModuleInitEnabled(boolean enabled) {
+        deferredModuleInitEnabled = enabled;
+    }
+
+    /**
+     * Opt-in: deliver core events to Dart as one list per vsync, or per {@code flushIntervalMillis}
+     * when it is greater than {@link FlutterEventBatcher#FLUSH_ON_VSYNC}, instead of one message
+     * per event. {@link FlutterEventBatcher#FLUSH_IMMEDIATELY} turns batching off again.
+     */
+    public static void setEventBatchingInterval(long flushIntervalMillis) {
+        coreEmitter.enableBatching(flushIntervalMillis);
+    }
+
+    /**
+     * Opt-in: keep the recent core events and replay the ones an engine missed while its event
+     * channel was gone, for example while the activity was recreated. Recording the events
+     * serializes their delivery. Must be set before the plugin is attached to the engine.
+     */
+    public static void setEventReplayEnabled(boolean enabled) {
+        coreEmitter.enableReplay(enabled ? EVENT_REPLAY_CAPACITY : 0);
+    }
+
+    @Override
+    protected boolean setsUpModulesPerEngine() {
+        return true;
+    }
+
+    /**
+     * @deprecated Engines are counted per plugin class by {@link BaseFlutterPlugin} now. This
+     * only resets that count.
+     */
+    @Deprecated
+    @VisibleForTesting
+    public static void resetActiveInstances() {
+        resetActivePluginInstanceCount(ScanditFlutterDataCaptureCorePlugin.class);
     }
 
     @Override
-    protected int getActivePluginInstanceCount() {
-        return activePluginInstances.get();
+    protected boolean shouldUseBackgroundTaskQueue() {
+        return backgroundTaskQueueEnabled;
     }
 
     @Override
@@ -74,19 +211,68 @@ public class ScanditFlutterDataCaptureCorePlugin extends BaseFlutterPlugin imple
 
     @Override
     protected void setupModules(FlutterPlugin.FlutterPluginBinding binding) {
-        CoreModule coreModule = resolveModule(CoreModule.class);
-        if (coreModule != null) return;
+        FlutterExecutionPolicy executionPolicy = executionPolicyEnabled || backgroundTaskQueueEnabled
+                ? acquireExecutionPolicy()
+                : null;
+        this.executionPolicy = executionPolicy;
+        coreModule = new FlutterDeferredModule<>(DefaultMainThread.getInstance(), () -> acquireModule(
+                CoreModule.class,
+                () -> createCoreModule(binding, executionPolicy)
+        ));
+        if (!deferredModuleInitEnabled) {
+            coreModule.get();
+            return;
+        }
+        FlutterDeferredModule<CoreModule> deferredModule = coreModule;
+        // The second callback runs after the first frame was drawn. The module is created on the
+        // main thread, like without the deferred init.
+        Choreographer.getInstance().postFrameCallback(firstFrameTimeNanos ->
+                Choreographer.getInstance().postFrameCallback(frameTimeNanos ->
+                        deferredModule.preload()
+                )
+        );
+    }
 
-        coreModule = CoreModule.create(coreEmitter);
+    private static CoreModule createCoreModule(FlutterPluginBinding binding, @Nullable FlutterExecutionPolicy executionPolicy) {
+        CoreModule coreModule = CoreModule.create(coreEmitter);
         coreModule.onCreate(binding.getApplicationContext());
         coreModule.subscribeContextListener(new NoopFrameworksResult());
 
-        registerModule(coreModule);
+        // Defaults of a previous module are stale. With a background pool the new ones are
+        // serialized before Dart asks for them, otherwise on the first call.
+        FlutterDefaultsCache.INSTANCE.invalidate();
+        if (executionPolicy != null) {
+            FlutterDefaultsCache.INSTANCE.prewarm(coreModule, executionPolicy::executeInBackground);
+        }
+        return coreModule;
+    }
+
+    @Override
+    protected void onModuleDisposed(@NonNull FrameworkModule module) {
+        if (!(module instanceof CoreModule)) return;
+
+        // The serialized defaults belong to the disposed module.
+        FlutterDefaultsCache.INSTANCE.invalidate();
+        FlutterCameraStateCache.INSTANCE.clear();
+        // Events of the disposed module must not be replayed to the engines of the next one.
+        coreEmitter.clearReplay();
+    }
+
+    @NonNull
+    @Override
+    protected MethodCodec getMethodCodec() {
+        return METHOD_CODEC;
     }
 
     @Override
     protected void setupMethodChannels(@NonNull FlutterPluginBinding binding, ServiceLocator<FrameworkModule> serviceLocator) {
-        DataCaptureCoreMethodHandler dataCaptureCoreMethodHandler = new DataCaptureCoreMethodHandler(serviceLocator);
+        DataCaptureCoreMethodHandler dataCaptureCoreMethodHandler = new DataCaptureCoreMethodHandler(
+                serviceLocator,
+                DefaultMainThread.getInstance(),
+                coreEmitter.scopeFor(binding.getBinaryMessenger()),
+                executionPolicy,
+                coreModule
+        );
         MethodChannel methodChannel = createChannel(binding, DataCaptureCoreMethodHandler.METHOD_CHANNEL_NAME);
         methodChannel.setMethodCallHandler(dataCaptureCoreMethodHandler);
         registerChannel(methodChannel);
@@ -96,7 +282,11 @@ public class ScanditFlutterDataCaptureCorePlugin extends BaseFlutterPlugin imple
     protected void setupPlatformViewRegistry(FlutterPluginBinding binding, ServiceLocator<FrameworkModule> serviceLocator) {
         binding.getPlatformViewRegistry().registerViewFactory(
                 "com.scandit.DataCaptureView",
-                new ScanditPlatformViewFactory(serviceLocator)
+                new ScanditPlatformViewFactory(
+                        serviceLocator,
+                        coreEmitter.scopeFor(binding.getBinaryMessenger()),
+                        coreModule
+                )
         );
     }
 
@@ -114,8 +304,49 @@ public class ScanditFlutterDataCaptureCorePlugin extends BaseFlutterPlugin imple
         }
     }
 
-    @VisibleForTesting
-    public static void resetActiveInstances() {
-        activePluginInstances.set(0);
+    private static synchronized FlutterExecutionPolicy acquireExecutionPolicy() {
+        if (executionPolicyReferences++ == 0) {
+            List<String> mainThreadMethods = new ArrayList<>(MAIN_THREAD_METHODS);
+            mainThreadMethods.addAll(additionalMainThreadMethods);
+            sharedExecutionPolicy = new FlutterExecutionPolicy(
+                    DefaultMainThread.getInstance(),
+                    2,
+                    64,
+                    mainThreadMethods,
+                    UNORDERED_METHODS
+            );
+        }
+        return sharedExecutionPolicy;
     }
+
+    private static synchronized void releaseExecutionPolicy() {
+        if (executionPolicyReferences == 0 || --executionPolicyReferences > 0) return;
+
+        // Calls already queued still run, the threads stop once the queue is drained.
+        sharedExecutionPolicy.shutdown();
+        sharedExecutionPolicy = null;
+    }
+
+    private static FlutterEmitter createCoreEmitter() {
+        FlutterEmitter emitter = new FlutterEmitter(DataCaptureCoreMethodHandler.EVENT_CHANNEL_NAME);
+        // High frequency events skip the JSON round trip and are sent as codec bytes.
+        emitter.setBinaryEncoding(EVENT_ZOOM_LEVEL_CHANGED, true);
+        emitter.setBinaryEncoding(EVENT_VIEW_SIZE_CHANGED, true);
+        // Keep only the latest zoom level and view size while they wait for the main thread.
+        emitter.setCoalesced(EVENT_ZOOM_LEVEL_CHANGED, true);
+        emitter.setCoalesced(EVENT_VIEW_SIZE_CHANGED, true);
+        // Only the latest state matters, so state changes are never dropped when the main thread lags behind.
+        emitter.setCoalesced(EVENT_FRAME_SOURCE_STATE_CHANGED, true);
+        emitter.setCoalesced(EVENT_TORCH_STATE_CHANGED, true);
+        // Camera state queries are answered from the last answer until the camera state changes.
+        emitter.addEventObserver(FlutterCameraStateCache.INSTANCE);
+        FlutterCameraStateCache.INSTANCE.setListenerRegistry(emitter.getListenerRegistry());
+        return emitter;
+    }
+
+    private static final int EVENT_REPLAY_CAPACITY = 32;
+    private static final String EVENT_ZOOM_LEVEL_CHANGED = "ZoomListener.onZoomLevelChanged";
+    private static final String EVENT_VIEW_SIZE_CHANGED = "DataCaptureViewListener.onSizeChanged";
+    private static final String EVENT_FRAME_SOURCE_STATE_CHANGED = "FrameSourceListener.onStateChanged";
+    private static final String EVENT_TORCH_STATE_CHANGED = "TorchListener.onTorchStateChanged";
 }
@@ -8,56 +8,57 @@ package com.scandit.datacapture.flutter.core.ui;
 import android.content.Context;
 import android.widget.FrameLayout;
 import io.flutter.plugin.platform.PlatformView;
-import java.util.Collections;
-import java.util.List;
 import java.util.UUID;
 
 public abstract class FlutterBasePlatformView extends FrameLayout implements PlatformView {
 
     protected final String viewId = UUID.randomUUID().toString();
 
+    // Links in the stack of live platform views, guarded by FlutterRenderOwnership.
+    FlutterBasePlatformView previousView;
+    FlutterBasePlatformView nextView;
+    boolean inStack;
+
     public FlutterBasePlatformView(Context context) {
         super(context);
         initAfterConstruction();
     }
 
     private void initAfterConstruction() {
-        onNewViewAdded(this);
+        FlutterRenderOwnership.add(this);
     }
 
     @Override
     public void dispose() {
-        onViewDisposed(this);
+        FlutterRenderOwnership.remove(this);
     }
 
+    /**
+     * Called with the id of the top view when this view becomes the top view again. Views that
+     * return {@code true} from {@link #notifiesEveryTopViewChange()} are called whenever a view
+     * is disposed instead, with {@code null} once no view is left.
+     */
     public abstract void onCurrentTopViewVisibleChanged(String topViewId);
 
-    private void onNewViewAdded(FlutterBasePlatformView view) {
-        synchronized (platformViews) {
-            platformViews.add(view);
-        }
+    /**
+     * Compatibility for subclasses that rely on hearing about the top view whenever any view is
+     * disposed, as every live view did before. Each of these views costs a notification on
+     * every disposal, so only override this when the narrow notification is not enough. Must
+     * return a constant, it is read from the constructor.
+     */
+    protected boolean notifiesEveryTopViewChange() {
+        return false;
     }
 
-    private void onViewDisposed(FlutterBasePlatformView view) {
-        synchronized (platformViews) {
-            platformViews.remove(view);
-            String topViewId = platformViews.isEmpty() ? null : platformViews.get(platformViews.size() - 1).viewId;
-            for (FlutterBasePlatformView listener : platformViews) {
-                // Our native SDK doesn't support rendering the camera frames to multiple
-                // DataCaptureViews at the same time (optimized). Since flutter platform views
-                // are not hidden or closed when a new one is opened, the newly opened platform
-                // view will "steal" the rendering from the previous screen. Closing this screen
-                // and going back to the previous visible platform view doesn't trigger
-                // anything, so the previous platform view is not able to resume rendering
-                // the camera frames, unless we dispatchWindowVisibilityChanged(VISIBLE) in the
-                // view to make the current platform view the one who streams the camera frames.
-                listener.onCurrentTopViewVisibleChanged(topViewId);
-            }
-        }
+    /**
+     * Called when a newer platform view covers this one and takes over the rendering.
+     */
+    protected void onRenderingSuspended() {
     }
 
-    private static final List<FlutterBasePlatformView> platformViews = Collections.synchronizedList(
-        new java.util.ArrayList<>()
-    );
+    /**
+     * Called when this view becomes the top platform view again.
+     */
+    protected void onRenderingResumed() {
+    }
 }
-
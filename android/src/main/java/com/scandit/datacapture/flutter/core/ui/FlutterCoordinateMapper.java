@@ -0,0 +1,62 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.ui;
+
+import androidx.annotation.NonNull;
+
+import com.scandit.datacapture.core.common.geometry.Point;
+import com.scandit.datacapture.core.common.geometry.Quadrilateral;
+import com.scandit.datacapture.core.ui.DataCaptureView;
+
+/**
+ * Maps packed frame coordinates to view coordinates in one pass. Points are packed as
+ * {@code x, y} pairs, quadrilaterals as the top left, top right, bottom right and bottom left
+ * points. The result uses the same layout. Must be called on the main thread.
+ */
+public final class FlutterCoordinateMapper {
+    public static final int POINT_STRIDE = 2;
+    public static final int QUADRILATERAL_STRIDE = 4 * POINT_STRIDE;
+
+    private FlutterCoordinateMapper() {
+    }
+
+    @NonNull
+    public static double[] mapFramePointsToView(@NonNull DataCaptureView view, @NonNull double[] points) {
+        double[] mapped = new double[points.length];
+        for (int i = 0; i + POINT_STRIDE <= points.length; i += POINT_STRIDE) {
+            Point point = view.mapFramePointToView(readPoint(points, i));
+            writePoint(mapped, i, point);
+        }
+        return mapped;
+    }
+
+    @NonNull
+    public static double[] mapFrameQuadrilateralsToView(@NonNull DataCaptureView view, @NonNull double[] quadrilaterals) {
+        double[] mapped = new double[quadrilaterals.length];
+        for (int i = 0; i + QUADRILATERAL_STRIDE <= quadrilaterals.length; i += QUADRILATERAL_STRIDE) {
+            Quadrilateral quadrilateral = view.mapFrameQuadrilateralToView(new Quadrilateral(
+                    readPoint(quadrilaterals, i),
+                    readPoint(quadrilaterals, i + POINT_STRIDE),
+                    readPoint(quadrilaterals, i + 2 * POINT_STRIDE),
+                    readPoint(quadrilaterals, i + 3 * POINT_STRIDE)
+            ));
+            writePoint(mapped, i, quadrilateral.getTopLeft());
+            writePoint(mapped, i + POINT_STRIDE, quadrilateral.getTopRight());
+            writePoint(mapped, i + 2 * POINT_STRIDE, quadrilateral.getBottomRight());
+            writePoint(mapped, i + 3 * POINT_STRIDE, quadrilateral.getBottomLeft());
+        }
+        return mapped;
+    }
+
+    private static Point readPoint(double[] values, int offset) {
+        return new Point((float) values[offset], (float) values[offset + 1]);
+    }
+
+    private static void writePoint(double[] values, int offset, Point point) {
+        values[offset] = point.getX();
+        values[offset + 1] = point.getY();
+    }
+}
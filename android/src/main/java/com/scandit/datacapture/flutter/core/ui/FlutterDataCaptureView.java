@@ -11,29 +11,74 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.FrameLayout;
 
+import androidx.annotation.Nullable;
+
 import com.scandit.datacapture.core.ui.DataCaptureView;
+import com.scandit.datacapture.flutter.core.utils.FlutterBridgeMetrics;
+import com.scandit.datacapture.flutter.core.utils.FlutterEventScope;
 import com.scandit.datacapture.flutter.core.utils.FlutterLogInsteadOfResult;
 import com.scandit.datacapture.frameworks.core.CoreModule;
 
+import org.json.JSONException;
+import org.json.JSONObject;
+
 import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
 
 @SuppressLint("ViewConstructor")
 public class FlutterDataCaptureView extends FlutterBasePlatformView {
+    // The views that are currently shown, by data capture view id.
+    private static final ConcurrentHashMap<Integer, FlutterDataCaptureView> shownViews = new ConcurrentHashMap<>();
+
     private WeakReference<DataCaptureView> currentDataCaptureView = new WeakReference<>(null);
     private final CoreModule coreModule;
 
+    @Nullable
+    private final FlutterEventScope eventScope;
+    private final int dataCaptureViewId;
+
     public FlutterDataCaptureView(Context context, CoreModule coreModule, String creationJson) {
+        this(context, coreModule, creationJson, null);
+    }
+
+    public FlutterDataCaptureView(
+            Context context,
+            CoreModule coreModule,
+            String creationJson,
+            @Nullable FlutterEventScope eventScope
+    ) {
         super(context);
         this.coreModule = coreModule;
+        this.eventScope = eventScope;
+        this.dataCaptureViewId = readViewId(creationJson);
+
+        if (eventScope != null && dataCaptureViewId != NO_VIEW_ID) {
+            // Events of this view only need to reach the engine that created it.
+            eventScope.addView(dataCaptureViewId);
+        }
 
         DataCaptureView view = coreModule.createDataCaptureView(creationJson, new FlutterLogInsteadOfResult());
 
         if (view != null) {
             addDataCaptureViewToPlatformView(view, this);
+            // The view this one covers hid its data capture view, which may be this same instance.
+            view.setVisibility(View.VISIBLE);
             currentDataCaptureView = new WeakReference<>(view);
+            if (dataCaptureViewId != NO_VIEW_ID) {
+                shownViews.put(dataCaptureViewId, this);
+            }
         }
     }
 
+    /**
+     * Returns the data capture view shown with the given id, or {@code null} if there is none.
+     */
+    @Nullable
+    public static DataCaptureView findDataCaptureView(int dataCaptureViewId) {
+        FlutterDataCaptureView platformView = shownViews.get(dataCaptureViewId);
+        return platformView != null ? platformView.currentDataCaptureView.get() : null;
+    }
+
     @Override
     public View getView() {
         return this;
@@ -41,15 +86,41 @@ public class FlutterDataCaptureView extends FlutterBasePlatformView {
 
     @Override
     public void dispose() {
+        FlutterBridgeMetrics.Metric metric = FlutterBridgeMetrics.INSTANCE.get(FlutterBridgeMetrics.VIEW_DISPOSE);
+        if (metric == null) {
+            disposeView();
+            return;
+        }
+        long startNanos = metric.begin();
+        try {
+            disposeView();
+        } finally {
+            metric.end(startNanos);
+        }
+    }
+
+    private void disposeView() {
+        shownViews.remove(dataCaptureViewId, this);
         DataCaptureView view = currentDataCaptureView.get();
         if (view != null) {
             coreModule.dataCaptureViewDisposed(view);
             currentDataCaptureView = new WeakReference<>(null);
         }
+        if (eventScope != null && dataCaptureViewId != NO_VIEW_ID) {
+            eventScope.removeView(dataCaptureViewId);
+        }
         removeAllViews();
         super.dispose();
     }
 
+    private static int readViewId(String creationJson) {
+        try {
+            return new JSONObject(creationJson).optInt(FIELD_VIEW_ID, NO_VIEW_ID);
+        } catch (JSONException e) {
+            return NO_VIEW_ID;
+        }
+    }
+
     private void addDataCaptureViewToPlatformView(DataCaptureView dataCaptureView, FrameLayout platformView) {
         if (platformView.getChildCount() > 0 && platformView.getChildAt(0) == dataCaptureView) {
             // Same instance already attached. No need to detach and attach it again because it will
@@ -71,4 +142,26 @@ public class FlutterDataCaptureView extends FlutterBasePlatformView {
             dispatchWindowVisibilityChanged(getVisibility());
         }
     }
+
+    @Override
+    protected void onRenderingSuspended() {
+        DataCaptureView view = currentDataCaptureView.get();
+        if (view != null) {
+            // An invisible view is skipped by layout and drawing, so neither the frames nor the
+            // overlays of a covered view cost anything until it is resumed.
+            view.setVisibility(View.INVISIBLE);
+        }
+    }
+
+    @Override
+    protected void onRenderingResumed() {
+        DataCaptureView view = currentDataCaptureView.get();
+        if (view != null) {
+            // onCurrentTopViewVisibleChanged dispatches the window visibility right after.
+            view.setVisibility(View.VISIBLE);
+        }
+    }
+
+    private static final String FIELD_VIEW_ID = "viewId";
+    private static final int NO_VIEW_ID = 0;
 }
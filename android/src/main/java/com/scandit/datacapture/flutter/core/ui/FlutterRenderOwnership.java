@@ -0,0 +1,89 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.ui;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Decides which platform view renders the camera frames.
+ * <p>
+ * Our native SDK doesn't support rendering the camera frames to multiple DataCaptureViews at
+ * the same time (optimized). Flutter platform views are not hidden or closed when a new one is
+ * opened on top of them, so the live views form a stack and only its top view owns the
+ * rendering. Pushing a view suspends the view it covers, and disposing the top view hands the
+ * rendering back to the view below it. Adding and disposing a view are O(1), and only the view
+ * that becomes the top is notified, outside the lock.
+ */
+final class FlutterRenderOwnership {
+    private static final Object lock = new Object();
+
+    // Top of the stack of live platform views, linked through the views themselves.
+    private static FlutterBasePlatformView topView;
+
+    // Views that hear about the top view on every disposal, in the order they were added.
+    private static final CopyOnWriteArrayList<FlutterBasePlatformView> topViewListeners = new CopyOnWriteArrayList<>();
+
+    private FlutterRenderOwnership() {
+    }
+
+    static void add(FlutterBasePlatformView view) {
+        FlutterBasePlatformView coveredView;
+        synchronized (lock) {
+            if (view.inStack) return;
+            view.inStack = true;
+            view.previousView = topView;
+            view.nextView = null;
+            if (topView != null) {
+                topView.nextView = view;
+            }
+            coveredView = topView;
+            topView = view;
+        }
+        if (view.notifiesEveryTopViewChange()) {
+            topViewListeners.add(view);
+        }
+
+        if (coveredView != null) {
+            coveredView.onRenderingSuspended();
+        }
+    }
+
+    static void remove(FlutterBasePlatformView view) {
+        FlutterBasePlatformView uncoveredView = null;
+        String topViewId;
+        synchronized (lock) {
+            if (!view.inStack) return;
+            view.inStack = false;
+
+            if (view.previousView != null) {
+                view.previousView.nextView = view.nextView;
+            }
+            if (view.nextView != null) {
+                view.nextView.previousView = view.previousView;
+            }
+            if (topView == view) {
+                topView = view.previousView;
+                uncoveredView = topView;
+            }
+            view.previousView = null;
+            view.nextView = null;
+            topViewId = topView != null ? topView.viewId : null;
+        }
+        topViewListeners.remove(view);
+
+        // Disposing a view below the top doesn't change which view renders.
+        if (uncoveredView != null) {
+            uncoveredView.onRenderingResumed();
+            if (!uncoveredView.notifiesEveryTopViewChange()) {
+                uncoveredView.onCurrentTopViewVisibleChanged(topViewId);
+            }
+        }
+        // Views that opted in hear about every disposal, from the bottom of the stack up.
+        for (FlutterBasePlatformView listener : topViewListeners) {
+            listener.onCurrentTopViewVisibleChanged(topViewId);
+        }
+    }
+}
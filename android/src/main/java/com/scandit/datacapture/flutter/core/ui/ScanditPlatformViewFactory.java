@@ -10,6 +10,9 @@ import android.content.Context;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.scandit.datacapture.flutter.core.utils.FlutterBridgeMetrics;
+import com.scandit.datacapture.flutter.core.utils.FlutterDeferredModule;
+import com.scandit.datacapture.flutter.core.utils.FlutterEventScope;
 import com.scandit.datacapture.frameworks.core.CoreModule;
 import com.scandit.datacapture.frameworks.core.FrameworkModule;
 import com.scandit.datacapture.frameworks.core.locator.ServiceLocator;
@@ -23,9 +26,32 @@ import io.flutter.plugin.platform.PlatformViewFactory;
 public class ScanditPlatformViewFactory extends PlatformViewFactory {
     private final ServiceLocator<FrameworkModule> serviceLocator;
 
+    @Nullable
+    private final FlutterEventScope eventScope;
+
+    @Nullable
+    private final FlutterDeferredModule<CoreModule> deferredModule;
+
     public ScanditPlatformViewFactory(ServiceLocator<FrameworkModule> serviceLocator) {
+        this(serviceLocator, null);
+    }
+
+    public ScanditPlatformViewFactory(
+            ServiceLocator<FrameworkModule> serviceLocator,
+            @Nullable FlutterEventScope eventScope
+    ) {
+        this(serviceLocator, eventScope, null);
+    }
+
+    public ScanditPlatformViewFactory(
+            ServiceLocator<FrameworkModule> serviceLocator,
+            @Nullable FlutterEventScope eventScope,
+            @Nullable FlutterDeferredModule<CoreModule> deferredModule
+    ) {
         super(StandardMessageCodec.INSTANCE);
         this.serviceLocator = serviceLocator;
+        this.eventScope = eventScope;
+        this.deferredModule = deferredModule;
     }
 
     @NonNull
@@ -43,11 +69,22 @@ public class ScanditPlatformViewFactory extends PlatformViewFactory {
             throw new IllegalArgumentException("Unable to create the DataCaptureView without the json.");
         }
 
-        CoreModule coreModule = (CoreModule) this.serviceLocator.resolve(CoreModule.class.getSimpleName());
+        CoreModule coreModule = deferredModule != null
+                ? deferredModule.get()
+                : (CoreModule) this.serviceLocator.resolve(CoreModule.class.getSimpleName());
         if (coreModule == null) {
             throw new IllegalArgumentException("Unable to create the DataCaptureView. Core module not initialized.");
         }
 
-        return new FlutterDataCaptureView(context, coreModule, creationJson.toString());
+        FlutterBridgeMetrics.Metric metric = FlutterBridgeMetrics.INSTANCE.get(FlutterBridgeMetrics.VIEW_CREATE);
+        if (metric == null) {
+            return new FlutterDataCaptureView(context, coreModule, creationJson.toString(), eventScope);
+        }
+        long startNanos = metric.begin();
+        try {
+            return new FlutterDataCaptureView(context, coreModule, creationJson.toString(), eventScope);
+        } finally {
+            metric.end(startNanos);
+        }
     }
 }
@@ -0,0 +1,176 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import android.os.Trace;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms of the hot paths of the bridge: method calls, emitted events
+ * and platform view creation and disposal.
+ * <p>
+ * Every measured section is also an {@link Trace} section, so it shows up in Perfetto captures.
+ * Recording doesn't allocate once a metric exists. A snapshot is returned by the
+ * {@code getBridgeMetrics} method of the core channel.
+ */
+public class FlutterBridgeMetrics {
+    public static final FlutterBridgeMetrics INSTANCE = new FlutterBridgeMetrics();
+
+    public static final String METHOD_PREFIX = "method:";
+    public static final String EVENT_PREFIX = "event:";
+    public static final String VIEW_CREATE = "view:create";
+    public static final String VIEW_DISPOSE = "view:dispose";
+
+    private final ConcurrentHashMap<String, Metric> metrics = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Metric> methodMetrics = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Metric> eventMetrics = new ConcurrentHashMap<>();
+
+    private volatile boolean enabled = false;
+
+    /**
+     * Metrics are off by default. Dart turns them on with {@code BridgeMetrics.setEnabled}.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the metric with the given name, or {@code null} while metrics are disabled.
+     */
+    @Nullable
+    public Metric get(@NonNull String name) {
+        if (!enabled) return null;
+
+        Metric metric = metrics.get(name);
+        return metric != null ? metric : metrics.computeIfAbsent(name, Metric::new);
+    }
+
+    // Prefixed names are only built the first time, so looking a metric up doesn't allocate.
+    @Nullable
+    public Metric getMethod(@NonNull String methodName) {
+        return getPrefixed(methodMetrics, METHOD_PREFIX, methodName);
+    }
+
+    @Nullable
+    public Metric getEvent(@NonNull String eventName) {
+        return getPrefixed(eventMetrics, EVENT_PREFIX, eventName);
+    }
+
+    @Nullable
+    private Metric getPrefixed(ConcurrentHashMap<String, Metric> cache, String prefix, String name) {
+        if (!enabled) return null;
+
+        Metric metric = cache.get(name);
+        return metric != null ? metric : cache.computeIfAbsent(name, key -> get(prefix + key));
+    }
+
+    @NonNull
+    public Map<String, Object> snapshot(boolean reset) {
+        Map<String, Object> snapshot = new HashMap<>();
+        for (Map.Entry<String, Metric> entry : metrics.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().snapshot(reset));
+        }
+        return snapshot;
+    }
+
+    public static long now() {
+        return System.nanoTime();
+    }
+
+    public static final class Metric {
+        private final String traceSection;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder payloadBytes = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final FlutterLatencyHistogram latency = new FlutterLatencyHistogram();
+        private final FlutterLatencyHistogram queueDelay = new FlutterLatencyHistogram();
+
+        Metric(String name) {
+            // Trace section names are limited to 127 characters.
+            String section = "Scandit " + name;
+            this.traceSection = section.length() > 127 ? section.substring(0, 127) : section;
+        }
+
+        /**
+         * Opens the trace section of this metric on the current thread and returns the start
+         * time to pass to {@link #end(long)} on the same thread.
+         */
+        public long begin() {
+            beginSection();
+            return now();
+        }
+
+        public void end(long startNanos) {
+            endSection();
+            record(startNanos);
+        }
+
+        public void beginSection() {
+            Trace.beginSection(traceSection);
+        }
+
+        public void endSection() {
+            Trace.endSection();
+        }
+
+        /**
+         * Counts a call that started at the given time and finished now.
+         */
+        public void record(long startNanos) {
+            count.increment();
+            latency.record(TimeUnit.NANOSECONDS.toMicros(now() - startNanos));
+        }
+
+        public void recordQueueDelay(long enqueuedNanos) {
+            queueDelay.record(TimeUnit.NANOSECONDS.toMicros(now() - enqueuedNanos));
+        }
+
+        public void addPayloadBytes(long bytes) {
+            payloadBytes.add(bytes);
+        }
+
+        public void addDropped() {
+            dropped.increment();
+        }
+
+        Map<String, Object> snapshot(boolean reset) {
+            Map<String, Object> snapshot = new HashMap<>();
+            snapshot.put("count", reset ? count.sumThenReset() : count.sum());
+            snapshot.put("payloadBytes", reset ? payloadBytes.sumThenReset() : payloadBytes.sum());
+            snapshot.put("dropped", reset ? dropped.sumThenReset() : dropped.sum());
+            snapshot.put("latencyMicros", snapshot(latency, reset));
+            if (queueDelay.getCount() > 0) {
+                snapshot.put("queueDelayMicros", snapshot(queueDelay, reset));
+            }
+            return snapshot;
+        }
+
+        private static Map<String, Object> snapshot(FlutterLatencyHistogram histogram, boolean reset) {
+            Map<String, Object> snapshot = new HashMap<>();
+            snapshot.put("mean", histogram.getMean());
+            snapshot.put("p50", histogram.getPercentile(50));
+            snapshot.put("p90", histogram.getPercentile(90));
+            snapshot.put("p99", histogram.getPercentile(99));
+            snapshot.put("max", histogram.getPercentile(100));
+            if (reset) {
+                histogram.reset();
+            }
+            return snapshot;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.scandit.datacapture.frameworks.core.result.FrameworksResult;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * Answers camera state queries from the last answer of the SDK, as long as Dart listened to frame
+ * source state changes the whole time, no frame source or torch state change of that camera was
+ * emitted since, no call that changes the camera ran since, and the answer is not older than the
+ * staleness bound.
+ * <p>
+ * The SDK only emits state changes while Dart listens to them, so without an active subscription
+ * on the attached listener registry every query goes to the SDK. Answers remember the subscription
+ * they were read in and are not used once Dart stopped listening in between.
+ * <p>
+ * Every state change bumps the version of its camera, and answers are only used when they were
+ * read at the current version. Calls that switch the camera or replace the frame source of the
+ * context bump the version of every camera when they start and again when they reply, because
+ * the state events are only emitted while Dart listens to them. Nothing is locked: answers are immutable and replaced as a whole.
+ */
+public class FlutterCameraStateCache implements FlutterEmitter.EventObserver {
+    public static final FlutterCameraStateCache INSTANCE = new FlutterCameraStateCache();
+
+    public static final long DEFAULT_MAX_STALENESS_MILLIS = 1000;
+
+    private static final List<String> CACHED_METHODS = Arrays.asList("getCameraState", "isTorchAvailable");
+
+    // Calls that may change the state of any camera, the frame source is set through the context json.
+    private static final List<String> INVALIDATING_METHODS = Arrays.asList(
+            "switchCameraToDesiredState",
+            "createContextFromJson",
+            "updateContextFromJson",
+            "disposeContext"
+    );
+
+    private static final String EVENT_FRAME_SOURCE_STATE_CHANGED = "FrameSourceListener.onStateChanged";
+    private static final String EVENT_TORCH_STATE_CHANGED = "TorchListener.onTorchStateChanged";
+
+    private static final String FIELD_CAMERA_POSITION = "cameraPosition";
+
+    private volatile long maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_MAX_STALENESS_MILLIS);
+
+    // camera position -> version, bumped on every state change of that camera
+    private final ConcurrentHashMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    // method and camera position -> last answer
+    private final ConcurrentHashMap<String, Answer> answers = new ConcurrentHashMap<>();
+
+    @Nullable
+    private volatile FlutterEventListenerRegistry listenerRegistry = null;
+
+    /**
+     * Sets the registry that tells whether Dart listens to frame source state changes. Without one,
+     * nothing is answered from the cache.
+     */
+    public void setListenerRegistry(@Nullable FlutterEventListenerRegistry listenerRegistry) {
+        this.listenerRegistry = listenerRegistry;
+        answers.clear();
+    }
+
+    public void setMaxStalenessMillis(long maxStalenessMillis) {
+        this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(maxStalenessMillis);
+    }
+
+    /**
+     * Answers the call from the cache and returns {@code true}, or returns {@code false} when the
+     * call has to go to the SDK.
+     */
+    public boolean answer(@NonNull FlutterMethodCall call, @NonNull FrameworksResult result) {
+        String position = cameraPosition(call);
+        if (position == null) return false;
+
+        long subscription = subscriptionEpoch();
+        if (subscription == FlutterEventListenerRegistry.NOT_SUBSCRIBED) return false;
+
+        Answer answer = answers.get(key(call.getMethod(), position));
+        if (answer == null || answer.subscription != subscription || answer.version != versionOf(position).get()) {
+            return false;
+        }
+
+        if (System.nanoTime() - answer.readAtNanos > maxStalenessNanos) return false;
+
+        result.success(answer.value);
+        return true;
+    }
+
+    /**
+     * Returns a result that records the answer of the SDK before passing it on, or the given
+     * result when the call is not cached. Calls that change the camera invalidate the cache right
+     * away and get a result that invalidates it again once they replied.
+     */
+    @NonNull
+    public FrameworksResult capture(@NonNull FlutterMethodCall call, @NonNull FrameworksResult result) {
+        if (INVALIDATING_METHODS.contains(call.getMethod())) {
+            invalidateAll();
+            return invalidating(result);
+        }
+        String position = cameraPosition(call);
+        if (position == null) return result;
+
+        // Without a subscription, state changes are not emitted and the answer can't be trusted.
+        long subscription = subscriptionEpoch();
+        if (subscription == FlutterEventListenerRegistry.NOT_SUBSCRIBED) return result;
+
+        long version = versionOf(position).get();
+        return new FlutterResult(new MethodChannel.Result() {
+            @Override
+            public void success(@Nullable Object value) {
+                // An answer read while the state changed is already stale.
+                if (version == versionOf(position).get() && subscription == subscriptionEpoch()) {
+                    answers.put(key(call.getMethod(), position), new Answer(value, subscription, version, System.nanoTime()));
+                }
+                result.success(value);
+            }
+
+            @Override
+            public void error(@NonNull String errorCode, @Nullable String errorMessage, @Nullable Object errorDetails) {
+                result.error(errorCode, errorMessage, errorDetails);
+            }
+
+            @Override
+            public void notImplemented() {
+                result.error("METHOD_NOT_FOUND", "Unknown Core method", null);
+            }
+        });
+    }
+
+    @NonNull
+    private FrameworksResult invalidating(@NonNull FrameworksResult result) {
+        return new FlutterResult(new MethodChannel.Result() {
+            @Override
+            public void success(@Nullable Object value) {
+                invalidateAll();
+                result.success(value);
+            }
+
+            @Override
+            public void error(@NonNull String errorCode, @Nullable String errorMessage, @Nullable Object errorDetails) {
+                invalidateAll();
+                result.error(errorCode, errorMessage, errorDetails);
+            }
+
+            @Override
+            public void notImplemented() {
+                result.error("METHOD_NOT_FOUND", "Unknown Core method", null);
+            }
+        });
+    }
+
+    @Override
+    public void onEvent(@NonNull String eventName, @NonNull Map<String, Object> payload) {
+        if (!eventName.equals(EVENT_FRAME_SOURCE_STATE_CHANGED) && !eventName.equals(EVENT_TORCH_STATE_CHANGED)) {
+            return;
+        }
+        Object position = payload.get(FIELD_CAMERA_POSITION);
+        if (position instanceof String) {
+            versionOf((String) position).incrementAndGet();
+            return;
+        }
+        // Without a camera position every camera may have changed.
+        invalidateAll();
+    }
+
+    private void invalidateAll() {
+        for (AtomicLong version : versions.values()) {
+            version.incrementAndGet();
+        }
+    }
+
+    public void clear() {
+        answers.clear();
+    }
+
+    private long subscriptionEpoch() {
+        FlutterEventListenerRegistry registry = listenerRegistry;
+        return registry != null
+                ? registry.getSubscriptionEpoch(EVENT_FRAME_SOURCE_STATE_CHANGED)
+                : FlutterEventListenerRegistry.NOT_SUBSCRIBED;
+    }
+
+    @Nullable
+    private static String cameraPosition(FlutterMethodCall call) {
+        if (!CACHED_METHODS.contains(call.getMethod())) return null;
+        Object position = call.argument(FIELD_CAMERA_POSITION);
+        return position instanceof String ? (String) position : null;
+    }
+
+    private AtomicLong versionOf(String position) {
+        AtomicLong version = versions.get(position);
+        return version != null ? version : versions.computeIfAbsent(position, key -> new AtomicLong(0));
+    }
+
+    private static String key(String method, String position) {
+        return method + '|' + position;
+    }
+
+    private static final class Answer {
+        @Nullable
+        final Object value;
+        final long subscription;
+        final long version;
+        final long readAtNanos;
+
+        Answer(@Nullable Object value, long subscription, long version, long readAtNanos) {
+            this.value = value;
+            this.subscription = subscription;
+            this.version = version;
+            this.readAtNanos = readAtNanos;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * Runs a list of commands one after the other and answers with the result of every command.
+ * A command starts once the previous one replied, and it is dispatched like a single call, so
+ * commands that touch views still run on the main thread.
+ * <p>
+ * Each entry of the aggregated result is a map with {@code success}, and either {@code result},
+ * or {@code errorCode}, {@code errorMessage} and {@code errorDetails}. When the batch stops on
+ * the first error, the remaining commands are not run and have no entry.
+ */
+public class FlutterCommandBatch {
+    public interface Dispatcher {
+        /**
+         * Runs the command, or {@code onRejected} when the command can't run anymore.
+         */
+        void dispatch(@NonNull String methodName, @NonNull Runnable command, @NonNull Runnable onRejected);
+    }
+
+    public interface Executor {
+        void execute(@NonNull FlutterMethodCall command, @NonNull FlutterResult result);
+    }
+
+    public static final String FIELD_SUCCESS = "success";
+    public static final String FIELD_RESULT = "result";
+    public static final String FIELD_ERROR_CODE = "errorCode";
+    public static final String FIELD_ERROR_MESSAGE = "errorMessage";
+    public static final String FIELD_ERROR_DETAILS = "errorDetails";
+
+    private final List<FlutterMethodCall> commands;
+    private final boolean stopOnError;
+    @Nullable
+    private final FlutterEventScope eventScope;
+    private final Dispatcher dispatcher;
+    private final Executor executor;
+    private final FlutterResult batchResult;
+
+    private final List<Map<String, Object>> results;
+
+    // Steps requested while the loop in advance() runs, see advance().
+    private final AtomicInteger pendingSteps = new AtomicInteger(0);
+    private volatile boolean failed = false;
+    private boolean finished = false;
+
+    public FlutterCommandBatch(
+            @NonNull List<FlutterMethodCall> commands,
+            boolean stopOnError,
+            @Nullable FlutterEventScope eventScope,
+            @NonNull Dispatcher dispatcher,
+            @NonNull Executor executor,
+            @NonNull FlutterResult batchResult
+    ) {
+        this.commands = commands;
+        this.stopOnError = stopOnError;
+        this.eventScope = eventScope;
+        this.dispatcher = dispatcher;
+        this.executor = executor;
+        this.batchResult = batchResult;
+        this.results = new ArrayList<>(commands.size());
+    }
+
+    public void start() {
+        advance();
+    }
+
+    // A command that replies inline completes while it is dispatched. Its completion only counts
+    // a step, and the loop further up the stack runs the next command instead of recursing.
+    private void advance() {
+        if (pendingSteps.getAndIncrement() > 0) return;
+        do {
+            runNext();
+        } while (pendingSteps.decrementAndGet() > 0);
+    }
+
+    private void runNext() {
+        if (finished) return;
+
+        int index = results.size();
+        if (index == commands.size() || (failed && stopOnError)) {
+            finished = true;
+            batchResult.success(results);
+            return;
+        }
+        FlutterMethodCall command = commands.get(index);
+        CommandResult commandResult = new CommandResult();
+        dispatcher.dispatch(command.getMethod(), () -> {
+            try {
+                executor.execute(command, new FlutterResult(commandResult, eventScope));
+            } catch (RuntimeException e) {
+                commandResult.error("EXECUTION_FAILED", e.getMessage(), null);
+            }
+        }, () -> commandResult.error("EXECUTION_REJECTED", "The command was rejected before it could run", null));
+    }
+
+    private void complete(Map<String, Object> entry, boolean failed) {
+        results.add(entry);
+        if (failed) {
+            this.failed = true;
+        }
+        advance();
+    }
+
+    private final class CommandResult implements MethodChannel.Result {
+        // Listener registrations may reply more than once, only the first reply counts.
+        private final AtomicBoolean replied = new AtomicBoolean(false);
+
+        @Override
+        public void success(@Nullable Object result) {
+            if (!replied.compareAndSet(false, true)) return;
+
+            Map<String, Object> entry = new HashMap<>();
+            entry.put(FIELD_SUCCESS, true);
+            entry.put(FIELD_RESULT, result);
+            complete(entry, false);
+        }
+
+        @Override
+        public void error(@NonNull String errorCode, @Nullable String errorMessage, @Nullable Object errorDetails) {
+            if (!replied.compareAndSet(false, true)) return;
+
+            Map<String, Object> entry = new HashMap<>();
+            entry.put(FIELD_SUCCESS, false);
+            entry.put(FIELD_ERROR_CODE, errorCode);
+            entry.put(FIELD_ERROR_MESSAGE, errorMessage);
+            entry.put(FIELD_ERROR_DETAILS, errorDetails);
+            complete(entry, true);
+        }
+
+        @Override
+        public void notImplemented() {
+            error("METHOD_NOT_FOUND", "Unknown Core method", null);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import androidx.annotation.NonNull;
+
+import com.scandit.datacapture.core.common.ContextStatus;
+import com.scandit.datacapture.core.common.geometry.FloatWithUnit;
+import com.scandit.datacapture.core.common.geometry.MarginsWithUnit;
+import com.scandit.datacapture.core.common.geometry.MeasureUnit;
+import com.scandit.datacapture.core.common.geometry.Point;
+import com.scandit.datacapture.core.common.geometry.Quadrilateral;
+import com.scandit.datacapture.core.common.geometry.Size;
+import com.scandit.datacapture.core.source.FrameSourceState;
+import com.scandit.datacapture.core.source.TorchState;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.flutter.plugin.common.StandardMessageCodec;
+
+/**
+ * Standard message codec that also writes the common core types as tagged binary values, so
+ * they never go through JSON text. The Dart side decodes them with {@code CoreMessageCodec}.
+ * <p>
+ * Coordinates are 64-bit floats, enums are a single byte holding their index in the Dart enum.
+ * A context status is decoded as a map with {@code code}, {@code message} and {@code isValid},
+ * since it can't be created outside of the SDK.
+ */
+public class FlutterCoreMessageCodec extends StandardMessageCodec {
+    public static final FlutterCoreMessageCodec INSTANCE = new FlutterCoreMessageCodec();
+
+    // Tags below 128 belong to the standard message codec.
+    static final byte POINT = (byte) 128;
+    static final byte SIZE = (byte) 129;
+    static final byte QUADRILATERAL = (byte) 130;
+    static final byte MARGINS_WITH_UNIT = (byte) 131;
+    static final byte FRAME_SOURCE_STATE = (byte) 132;
+    static final byte TORCH_STATE = (byte) 133;
+    static final byte CONTEXT_STATUS = (byte) 134;
+
+    // In the order of the Dart enums.
+    private static final FrameSourceState[] FRAME_SOURCE_STATES = {
+            FrameSourceState.ON,
+            FrameSourceState.OFF,
+            FrameSourceState.STARTING,
+            FrameSourceState.STOPPING,
+            FrameSourceState.STANDBY,
+            FrameSourceState.BOOTING_UP,
+            FrameSourceState.WAKING_UP,
+            FrameSourceState.GOING_TO_SLEEP,
+            FrameSourceState.SHUTTING_DOWN
+    };
+    private static final TorchState[] TORCH_STATES = {TorchState.ON, TorchState.OFF, TorchState.AUTO};
+    private static final MeasureUnit[] MEASURE_UNITS = {MeasureUnit.DIP, MeasureUnit.PIXEL, MeasureUnit.FRACTION};
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+        if (value instanceof Point) {
+            stream.write(POINT);
+            writeAlignment(stream, 8);
+            writePoint(stream, (Point) value);
+        } else if (value instanceof Size) {
+            Size size = (Size) value;
+            stream.write(SIZE);
+            writeAlignment(stream, 8);
+            writeDouble(stream, size.getWidth());
+            writeDouble(stream, size.getHeight());
+        } else if (value instanceof Quadrilateral) {
+            Quadrilateral quadrilateral = (Quadrilateral) value;
+            stream.write(QUADRILATERAL);
+            writeAlignment(stream, 8);
+            writePoint(stream, quadrilateral.getTopLeft());
+            writePoint(stream, quadrilateral.getTopRight());
+            writePoint(stream, quadrilateral.getBottomRight());
+            writePoint(stream, quadrilateral.getBottomLeft());
+        } else if (value instanceof MarginsWithUnit) {
+            MarginsWithUnit margins = (MarginsWithUnit) value;
+            FloatWithUnit[] sides = {margins.getLeft(), margins.getTop(), margins.getRight(), margins.getBottom()};
+            stream.write(MARGINS_WITH_UNIT);
+            writeAlignment(stream, 8);
+            for (FloatWithUnit side : sides) {
+                writeDouble(stream, side.getValue());
+            }
+            for (FloatWithUnit side : sides) {
+                stream.write(indexOf(MEASURE_UNITS, side.getUnit()));
+            }
+        } else if (value instanceof FrameSourceState) {
+            stream.write(FRAME_SOURCE_STATE);
+            stream.write(indexOf(FRAME_SOURCE_STATES, (FrameSourceState) value));
+        } else if (value instanceof TorchState) {
+            stream.write(TORCH_STATE);
+            stream.write(indexOf(TORCH_STATES, (TorchState) value));
+        } else if (value instanceof ContextStatus) {
+            ContextStatus status = (ContextStatus) value;
+            stream.write(CONTEXT_STATUS);
+            writeInt(stream, status.getCode());
+            stream.write(status.isValid() ? 1 : 0);
+            writeBytes(stream, status.getMessage().getBytes(StandardCharsets.UTF_8));
+        } else {
+            super.writeValue(stream, value);
+        }
+    }
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+        switch (type) {
+            case POINT:
+                readAlignment(buffer, 8);
+                return readPoint(buffer);
+            case SIZE:
+                readAlignment(buffer, 8);
+                return new Size((float) buffer.getDouble(), (float) buffer.getDouble());
+            case QUADRILATERAL:
+                readAlignment(buffer, 8);
+                return new Quadrilateral(readPoint(buffer), readPoint(buffer), readPoint(buffer), readPoint(buffer));
+            case MARGINS_WITH_UNIT:
+                readAlignment(buffer, 8);
+                double[] values = {buffer.getDouble(), buffer.getDouble(), buffer.getDouble(), buffer.getDouble()};
+                FloatWithUnit[] sides = new FloatWithUnit[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    sides[i] = new FloatWithUnit((float) values[i], read(MEASURE_UNITS, buffer));
+                }
+                return new MarginsWithUnit(sides[0], sides[1], sides[2], sides[3]);
+            case FRAME_SOURCE_STATE:
+                return read(FRAME_SOURCE_STATES, buffer);
+            case TORCH_STATE:
+                return read(TORCH_STATES, buffer);
+            case CONTEXT_STATUS:
+                Map<String, Object> status = new HashMap<>();
+                status.put("code", buffer.getInt());
+                status.put("isValid", buffer.get() != 0);
+                status.put("message", new String(readBytes(buffer), StandardCharsets.UTF_8));
+                return status;
+            default:
+                return super.readValueOfType(type, buffer);
+        }
+    }
+
+    private static void writePoint(ByteArrayOutputStream stream, Point point) {
+        writeDouble(stream, point.getX());
+        writeDouble(stream, point.getY());
+    }
+
+    private static Point readPoint(ByteBuffer buffer) {
+        return new Point((float) buffer.getDouble(), (float) buffer.getDouble());
+    }
+
+    private static <T> int indexOf(T[] values, T value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) return i;
+        }
+        throw new IllegalArgumentException("Unsupported value " + value);
+    }
+
+    private static <T> T read(T[] values, ByteBuffer buffer) {
+        int index = buffer.get() & 0xFF;
+        if (index >= values.length) {
+            throw new IllegalArgumentException("Message corrupted");
+        }
+        return values[index];
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import androidx.annotation.NonNull;
+
+import com.scandit.datacapture.frameworks.core.CoreModule;
+import com.scandit.datacapture.frameworks.core.utils.DefaultFrameworksLog;
+
+import org.json.JSONObject;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the serialized defaults of the current {@link CoreModule}. The defaults do not change
+ * for the lifetime of a module, so they are only serialized once per module instance, no matter
+ * how many engines or hot restarts ask for them.
+ */
+public class FlutterDefaultsCache {
+    public static final FlutterDefaultsCache INSTANCE = new FlutterDefaultsCache();
+
+    private final AtomicReference<Entry> entry = new AtomicReference<>(null);
+
+    @NonNull
+    public String get(@NonNull CoreModule module) {
+        Entry current = entry.get();
+        if (current != null && current.module == module) {
+            return current.defaults;
+        }
+        Entry serialized = new Entry(module, new JSONObject(module.getDefaults()).toString());
+        // Another thread may have serialized the same module in the meantime, both results are equal.
+        entry.compareAndSet(current, serialized);
+        return serialized.defaults;
+    }
+
+    /**
+     * Serializes the defaults of the given module on the executor, so the first call from Dart
+     * can be answered from the cache.
+     */
+    public void prewarm(@NonNull CoreModule module, @NonNull Executor executor) {
+        executor.execute(() -> {
+            try {
+                get(module);
+            } catch (RuntimeException e) {
+                // The call from Dart will serialize the defaults again and report the failure.
+                DefaultFrameworksLog.getInstance().error("Unable to prewarm the defaults: " + e.getMessage());
+            }
+        });
+    }
+
+    public void invalidate() {
+        entry.set(null);
+    }
+
+    private static final class Entry {
+        final CoreModule module;
+        final String defaults;
+
+        Entry(CoreModule module, String defaults) {
+            this.module = module;
+            this.defaults = defaults;
+        }
+    }
+}
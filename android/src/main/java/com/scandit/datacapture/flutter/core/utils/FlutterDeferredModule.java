@@ -0,0 +1,97 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.scandit.datacapture.frameworks.core.utils.DefaultFrameworksLog;
+import com.scandit.datacapture.frameworks.core.utils.MainThread;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * A module that is initialized once, on the main thread, either by {@link #preload} or by the
+ * first caller of {@link #get}.
+ * <p>
+ * The main thread never waits: it initializes the module itself when nothing did yet. Callers on
+ * other threads hand the initialization to the main thread and wait for it there.
+ */
+public class FlutterDeferredModule<T> {
+    private final MainThread mainThread;
+    private final Supplier<T> initializer;
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+    private final AtomicBoolean started = new AtomicBoolean(false);
+
+    // Only read and written on the main thread.
+    private boolean cancelled = false;
+
+    public FlutterDeferredModule(@NonNull MainThread mainThread, @NonNull Supplier<T> initializer) {
+        this.mainThread = mainThread;
+        this.initializer = initializer;
+    }
+
+    /**
+     * Initializes the module, unless that already started. Must be called on the main thread.
+     */
+    public void preload() {
+        if (started.compareAndSet(false, true)) {
+            initialize();
+        }
+    }
+
+    /**
+     * Returns the module, or {@code null} when it was cancelled or its initialization failed.
+     */
+    @Nullable
+    public T get() {
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            // An initialization posted by another thread may not have run yet, it is skipped then.
+            started.set(true);
+            initialize();
+            return future.getNow(null);
+        }
+        if (started.compareAndSet(false, true)) {
+            mainThread.runOnMainThread(this::initialize);
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Prevents an initialization that didn't run yet, so nothing is initialized after this
+     * returns. Must be called on the main thread.
+     */
+    public void cancel() {
+        cancelled = true;
+        if (started.compareAndSet(false, true)) {
+            future.complete(null);
+        }
+    }
+
+    // Runs on the main thread only, so a second call finds the module done.
+    private void initialize() {
+        if (future.isDone()) return;
+        if (cancelled) {
+            future.complete(null);
+            return;
+        }
+        try {
+            future.complete(initializer.get());
+        } catch (RuntimeException e) {
+            DefaultFrameworksLog.getInstance().error("Unable to initialize the module: " + e.getMessage());
+            future.complete(null);
+        }
+    }
+}
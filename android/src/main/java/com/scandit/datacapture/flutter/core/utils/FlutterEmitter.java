@@ -6,6 +6,7 @@
 package com.scandit.datacapture.flutter.core.utils;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
 import com.scandit.datacapture.frameworks.core.events.Emitter;
@@ -17,18 +18,54 @@ import io.flutter.plugin.common.EventChannel;
 
 import org.json.JSONObject;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class FlutterEmitter implements Emitter {
+    /**
+     * Sees every emitted event before it is encoded, on the emitting thread.
+     */
+    public interface EventObserver {
+        void onEvent(@NonNull String eventName, @NonNull Map<String, Object> payload);
+    }
+
     private final String channelName;
     private final MainThread mainThread;
 
-    @VisibleForTesting
-    final CopyOnWriteArrayList<EventChannel.EventSink> sinkEvents = new CopyOnWriteArrayList<>();
     @VisibleForTesting
     final ConcurrentHashMap<Integer, EventChannel> channels = new ConcurrentHashMap<>();
+    // One bounded queue per listening engine, in front of its event sink.
+    @VisibleForTesting
+    final ConcurrentHashMap<Integer, FlutterEventBatcher> sinkQueues = new ConcurrentHashMap<>();
+    // The sinks themselves, for messages that must not go through a bounded queue.
+    private final ConcurrentHashMap<Integer, EventChannel.EventSink> sinks = new ConcurrentHashMap<>();
+    // Sinks of engines whose channel was removed while Dart kept listening, resumed by addChannel.
+    private final ConcurrentHashMap<Integer, EventChannel.EventSink> parkedSinks = new ConcurrentHashMap<>();
+
+    private final Set<String> binaryEncodedEvents = ConcurrentHashMap.newKeySet();
+
+    private final FlutterEventListenerRegistry listenerRegistry = new FlutterEventListenerRegistry();
+
+    private final FlutterEventRouter router = new FlutterEventRouter();
+
+    private final ConcurrentHashMap<String, FlutterEventBatcher.OverflowPolicy> overflowPolicies =
+            new ConcurrentHashMap<>();
+
+    private volatile long flushIntervalMillis = FlutterEventBatcher.FLUSH_IMMEDIATELY;
+
+    private volatile int queueCapacity = FlutterEventBatcher.DEFAULT_CAPACITY;
+
+    private final CopyOnWriteArrayList<EventObserver> observers = new CopyOnWriteArrayList<>();
+
+    private final ConcurrentHashMap<Integer, CopyOnWriteArrayList<FlutterEventScope.ViewRemovedListener>> viewRemovedListeners =
+            new ConcurrentHashMap<>();
+
+    @Nullable
+    private volatile FlutterEventReplayBuffer replayBuffer = null;
 
     public FlutterEmitter(String channelName, MainThread mainThread) {
         this.channelName = channelName;
@@ -39,53 +76,372 @@ public class FlutterEmitter implements Emitter {
         this(channelName, DefaultMainThread.getInstance());
     }
 
+    @NonNull
+    public FlutterEventListenerRegistry getListenerRegistry() {
+        return listenerRegistry;
+    }
+
+    /**
+     * Returns the event subscriptions of the engine behind the given messenger. View and mode
+     * specific events registered through it are only delivered to that engine.
+     */
+    @NonNull
+    public FlutterEventScope scopeFor(@NonNull BinaryMessenger messenger) {
+        return new FlutterEventScope(this, listenerRegistry, router, messenger.hashCode());
+    }
+
     public void addChannel(BinaryMessenger messenger) {
+        int engineKey = messenger.hashCode();
         EventChannel channel = new EventChannel(messenger, channelName);
-        channel.setStreamHandler(new EventChannel.StreamHandler() {
-            final AtomicReference<EventChannel.EventSink> event = new AtomicReference<>(null);
+        EventChannel.StreamHandler streamHandler = new EventChannel.StreamHandler() {
+            final AtomicReference<FlutterEventBatcher> queue = new AtomicReference<>(null);
+            final AtomicReference<EventChannel.EventSink> sink = new AtomicReference<>(null);
 
             @Override
             public void onCancel(Object arguments) {
-                EventChannel.EventSink current = event.get();
+                FlutterEventBatcher current = queue.getAndSet(null);
 
                 if (current != null) {
-                    sinkEvents.remove(current);
-                    event.set(null);
+                    sinkQueues.remove(engineKey, current);
+                }
+                EventChannel.EventSink currentSink = sink.getAndSet(null);
+                if (currentSink != null) {
+                    sinks.remove(engineKey, currentSink);
+                }
+                FlutterEventReplayBuffer buffer = replayBuffer;
+                if (buffer != null) {
+                    synchronized (buffer) {
+                        buffer.stoppedListening(engineKey);
+                    }
                 }
             }
 
             @Override
             public void onListen(Object arguments, EventChannel.EventSink events) {
-                this.event.set(events);
-                sinkEvents.add(events);
+                FlutterEventBatcher sinkQueue = new FlutterEventBatcher(
+                        mainThread,
+                        flushIntervalMillis,
+                        queueCapacity,
+                        batch -> deliver(events, batch)
+                );
+                this.queue.set(sinkQueue);
+                this.sink.set(events);
+                sinks.put(engineKey, events);
+
+                FlutterEventReplayBuffer buffer = replayBuffer;
+                if (buffer == null) {
+                    sinkQueues.put(engineKey, sinkQueue);
+                    return;
+                }
+                // Holding the buffer lock, no event is emitted between the replay and the registration of the queue.
+                synchronized (buffer) {
+                    replay(buffer, engineKey, sinkQueue);
+                    sinkQueues.put(engineKey, sinkQueue);
+                }
             }
-        });
-        channels.put(messenger.hashCode(), channel);
+        };
+        channel.setStreamHandler(streamHandler);
+        channels.put(engineKey, channel);
+
+        // Dart does not listen again when the channel comes back, the previous sink is still valid.
+        EventChannel.EventSink parkedSink = parkedSinks.remove(engineKey);
+        if (parkedSink != null) {
+            streamHandler.onListen(null, parkedSink);
+        }
     }
 
     public void removeChannel(BinaryMessenger messenger) {
-        EventChannel channel = channels.remove(messenger.hashCode());
+        int engineKey = messenger.hashCode();
+        EventChannel channel = channels.remove(engineKey);
         if (channel != null) {
             channel.setStreamHandler(null);
         }
+
+        FlutterEventReplayBuffer buffer = replayBuffer;
+        if (buffer == null) return;
+
+        // Events emitted until the channel is added again are replayed to the parked sink then.
+        FlutterEventBatcher sinkQueue;
+        synchronized (buffer) {
+            sinkQueue = sinkQueues.remove(engineKey);
+            EventChannel.EventSink sink = sinks.remove(engineKey);
+            if (sink != null) {
+                parkedSinks.put(engineKey, sink);
+            }
+            buffer.stoppedListening(engineKey);
+        }
+        if (sinkQueue != null) {
+            sinkQueue.flushPending();
+        }
+    }
+
+    /**
+     * Drops all view and mode routes, and the view removal listeners, of the engine behind the given messenger.
+     */
+    public void removeRoutes(BinaryMessenger messenger) {
+        router.removeEngine(messenger.hashCode());
+        parkedSinks.remove(messenger.hashCode());
+        viewRemovedListeners.remove(messenger.hashCode());
+
+        FlutterEventReplayBuffer buffer = replayBuffer;
+        if (buffer != null) {
+            synchronized (buffer) {
+                buffer.forget(messenger.hashCode());
+            }
+        }
+    }
+
+    /**
+     * Sends the payload of the given event as standard message codec bytes instead of a JSON
+     * string. The Dart side detects the encoding from the payload type and decodes it lazily.
+     */
+    public void setBinaryEncoding(@NonNull String eventName, boolean enabled) {
+        if (enabled) {
+            binaryEncodedEvents.add(eventName);
+        } else {
+            binaryEncodedEvents.remove(eventName);
+        }
+    }
+
+    /**
+     * Switches the emitter to batched delivery: events are queued and sent to every sink as one
+     * list per vsync, or per {@code flushIntervalMillis} when it is greater than
+     * {@link FlutterEventBatcher#FLUSH_ON_VSYNC}.
+     */
+    public void enableBatching(long flushIntervalMillis) {
+        this.flushIntervalMillis = flushIntervalMillis;
+        for (FlutterEventBatcher sinkQueue : sinkQueues.values()) {
+            sinkQueue.setFlushIntervalMillis(flushIntervalMillis);
+        }
+    }
+
+    /**
+     * Keeps the last {@code capacity} events, and the latest value of every coalesced event, and
+     * replays the ones an engine missed when its event sink starts listening, for example after
+     * the activity was recreated. A capacity of zero disables the replay.
+     * <p>
+     * While the replay is enabled, every event is recorded and dispatched under the lock of the
+     * replay buffer.
+     */
+    public void enableReplay(int capacity) {
+        replayBuffer = capacity > 0 ? new FlutterEventReplayBuffer(capacity) : null;
+    }
+
+    /**
+     * Drops the events kept for the replay, so they are not replayed to an engine that listens
+     * again after the module that emitted them was disposed.
+     */
+    public void clearReplay() {
+        FlutterEventReplayBuffer buffer = replayBuffer;
+        if (buffer == null) return;
+
+        synchronized (buffer) {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Limits the number of events waiting for the main thread, per sink.
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        for (FlutterEventBatcher sinkQueue : sinkQueues.values()) {
+            sinkQueue.setCapacity(queueCapacity);
+        }
+    }
+
+    /**
+     * Decides what happens to the given event while a sink queue is full. Events without a
+     * policy use {@link FlutterEventBatcher.OverflowPolicy#NEVER_DROP}, so listener events are
+     * only dropped when that was configured for them.
+     */
+    public void setOverflowPolicy(@NonNull String eventName, @NonNull FlutterEventBatcher.OverflowPolicy policy) {
+        overflowPolicies.put(eventName, policy);
+    }
+
+    /**
+     * Only the latest value of the given event per view and mode is kept until it is delivered.
+     */
+    public void setCoalesced(@NonNull String eventName, boolean coalesced) {
+        if (coalesced) {
+            overflowPolicies.put(eventName, FlutterEventBatcher.OverflowPolicy.COALESCE);
+        } else {
+            overflowPolicies.remove(eventName, FlutterEventBatcher.OverflowPolicy.COALESCE);
+        }
+    }
+
+    @Nullable
+    EventChannel.EventSink getSink(int engineKey) {
+        return sinks.get(engineKey);
+    }
+
+    void addViewRemovedListener(int engineKey, @NonNull FlutterEventScope.ViewRemovedListener listener) {
+        viewRemovedListeners.computeIfAbsent(engineKey, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    void notifyViewRemoved(int engineKey, int viewId) {
+        List<FlutterEventScope.ViewRemovedListener> listeners = viewRemovedListeners.get(engineKey);
+        if (listeners == null) return;
+        for (FlutterEventScope.ViewRemovedListener listener : listeners) {
+            listener.onViewRemoved(viewId);
+        }
+    }
+
+    public void addEventObserver(@NonNull EventObserver observer) {
+        observers.addIfAbsent(observer);
+    }
+
+    public void removeEventObserver(@NonNull EventObserver observer) {
+        observers.remove(observer);
+    }
+
+    public long getDroppedEventCount() {
+        long dropped = 0;
+        for (FlutterEventBatcher sinkQueue : sinkQueues.values()) {
+            dropped += sinkQueue.getDroppedEventCount();
+        }
+        return dropped;
     }
 
     @Override
     public void emit(@NonNull String eventName, @NonNull java.util.Map<String, Object> payload) {
-        // Serialize payload to JSON string
-        String payloadJson = new JSONObject(payload).toString();
+        for (EventObserver observer : observers) {
+            observer.onEvent(eventName, payload);
+        }
+        FlutterBridgeMetrics.Metric metric = FlutterBridgeMetrics.INSTANCE.getEvent(eventName);
+        if (metric == null) {
+            send(eventName, payload, null);
+            return;
+        }
+        long startNanos = metric.begin();
+        try {
+            send(eventName, payload, metric);
+        } finally {
+            metric.end(startNanos);
+        }
+    }
 
-        // Create wrapper Map with event name and payload JSON string
-        // This format allows Dart to access eventName without JSON parsing,
-        // while deferring payload parsing until actually needed
+    private void send(
+            @NonNull String eventName,
+            @NonNull Map<String, Object> payload,
+            @Nullable FlutterBridgeMetrics.Metric metric
+    ) {
+        // Serialize payload either to codec bytes or to a JSON string
+        Object encodedPayload;
+        int payloadBytes;
+        if (binaryEncodedEvents.contains(eventName)) {
+            byte[] bytes = FlutterEventCodec.INSTANCE.encodePayload(payload);
+            encodedPayload = bytes;
+            payloadBytes = bytes.length;
+        } else {
+            String json = new JSONObject(payload).toString();
+            encodedPayload = json;
+            payloadBytes = json.length();
+        }
+        if (metric != null) {
+            metric.addPayloadBytes(payloadBytes);
+        }
+
+        // Create wrapper Map with event name and encoded payload
+        // This format allows Dart to access eventName without decoding the payload,
+        // while deferring payload decoding until actually needed
         java.util.Map<String, Object> wrapper = new java.util.HashMap<>();
         wrapper.put(FIELD_EVENT_NAME, eventName);
-        wrapper.put(FIELD_PAYLOAD, payloadJson);
+        wrapper.put(FIELD_PAYLOAD, encodedPayload);
         wrapper.put(FIELD_VIEW_ID_NAME, payload.get(FIELD_VIEW_ID_NAME));
         wrapper.put(FIELD_MODE_ID_NAME, payload.get(FIELD_MODE_ID_NAME));
 
-        for (EventChannel.EventSink event : this.sinkEvents) {
-            mainThread.runOnMainThread(() -> event.success(wrapper));
+        Object viewId = wrapper.get(FIELD_VIEW_ID_NAME);
+        Object modeId = wrapper.get(FIELD_MODE_ID_NAME);
+
+        FlutterEventBatcher.OverflowPolicy policy = overflowPolicies.get(eventName);
+        if (policy == null) {
+            policy = FlutterEventBatcher.OverflowPolicy.NEVER_DROP;
+        }
+
+        FlutterEventReplayBuffer buffer = replayBuffer;
+        if (buffer == null) {
+            dispatch(eventName, viewId, modeId, wrapper, policy, metric);
+            return;
+        }
+        // The lock keeps a sink that starts listening from missing or repeating this event. It is only
+        // held for the ring write and the lock-free enqueue, the payload was encoded before.
+        synchronized (buffer) {
+            buffer.record(eventName, viewId, modeId, wrapper, policy == FlutterEventBatcher.OverflowPolicy.COALESCE);
+            dispatch(eventName, viewId, modeId, wrapper, policy, metric);
+        }
+    }
+
+    private void dispatch(
+            String eventName,
+            @Nullable Object viewId,
+            @Nullable Object modeId,
+            Map<String, Object> wrapper,
+            FlutterEventBatcher.OverflowPolicy policy,
+            @Nullable FlutterBridgeMetrics.Metric metric
+    ) {
+        Set<Integer> engines = router.enginesFor(viewId, modeId);
+        if (engines == null) {
+            for (FlutterEventBatcher sinkQueue : sinkQueues.values()) {
+                enqueue(sinkQueue, eventName, viewId, modeId, wrapper, policy, metric);
+            }
+            return;
+        }
+
+        for (Integer engineKey : engines) {
+            FlutterEventBatcher sinkQueue = sinkQueues.get(engineKey);
+            if (sinkQueue != null) {
+                enqueue(sinkQueue, eventName, viewId, modeId, wrapper, policy, metric);
+            }
+        }
+    }
+
+    // Called with the buffer lock held.
+    private void replay(FlutterEventReplayBuffer buffer, int engineKey, FlutterEventBatcher sinkQueue) {
+        for (FlutterEventReplayBuffer.Entry entry : buffer.missedBy(engineKey)) {
+            Set<Integer> engines = router.enginesFor(entry.viewId, entry.modeId);
+            if (engines != null && !engines.contains(engineKey)) continue;
+
+            FlutterEventBatcher.OverflowPolicy policy = overflowPolicies.get(entry.eventName);
+            enqueue(
+                    sinkQueue,
+                    entry.eventName,
+                    entry.viewId,
+                    entry.modeId,
+                    entry.event,
+                    policy != null ? policy : FlutterEventBatcher.OverflowPolicy.NEVER_DROP,
+                    null
+            );
+        }
+    }
+
+    private static void enqueue(
+            FlutterEventBatcher sinkQueue,
+            String eventName,
+            @Nullable Object viewId,
+            @Nullable Object modeId,
+            Map<String, Object> wrapper,
+            FlutterEventBatcher.OverflowPolicy policy,
+            @Nullable FlutterBridgeMetrics.Metric metric
+    ) {
+        String droppedEvent = sinkQueue.enqueue(eventName, viewId, modeId, wrapper, policy, metric);
+        if (droppedEvent != null) {
+            FlutterBridgeMetrics.Metric droppedMetric = FlutterBridgeMetrics.INSTANCE.getEvent(droppedEvent);
+            if (droppedMetric != null) {
+                droppedMetric.addDropped();
+            }
+        }
+    }
+
+    // Called on the main thread by the sink queue.
+    private void deliver(@NonNull EventChannel.EventSink sink, @NonNull List<Map<String, Object>> events) {
+        if (flushIntervalMillis != FlutterEventBatcher.FLUSH_IMMEDIATELY) {
+            sink.success(events);
+            return;
+        }
+        // Without batching every event keeps being sent on its own.
+        for (Map<String, Object> event : events) {
+            sink.success(event);
         }
     }
 
@@ -96,17 +452,17 @@ public class FlutterEmitter implements Emitter {
 
 
     @Override
-    public boolean hasListenersForEvent(@NonNull String s) {
-        return true;
+    public boolean hasListenersForEvent(@NonNull String eventName) {
+        return listenerRegistry.hasListeners(eventName);
     }
 
     @Override
     public boolean hasViewSpecificListenersForEvent(int viewId, @NonNull String eventName) {
-        return true;
+        return listenerRegistry.hasViewListeners(viewId, eventName);
     }
 
     @Override
-    public boolean hasModeSpecificListenersForEvent(int viewId, @NonNull String eventName) {
-        return true;
+    public boolean hasModeSpecificListenersForEvent(int modeId, @NonNull String eventName) {
+        return listenerRegistry.hasModeListeners(modeId, eventName);
     }
 }
@@ -0,0 +1,270 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.scandit.datacapture.frameworks.core.utils.MainThread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bounded, lock-free queue of the events on their way to one event sink, flushed on the main
+ * thread.
+ * <p>
+ * Any thread may enqueue, only the flush on the main thread drains. A flush is posted right
+ * away, scheduled on the next vsync, or scheduled after a fixed interval. While the main thread
+ * is busy the queue holds about {@code capacity} droppable events, and the overflow policy of an
+ * event decides what gives way:
+ * <ul>
+ *     <li>{@link OverflowPolicy#NEVER_DROP} keeps the event and doesn't count towards the
+ *     capacity.</li>
+ *     <li>{@link OverflowPolicy#DROP_OLDEST} drops the oldest pending droppable event.</li>
+ *     <li>{@link OverflowPolicy#DROP_NEWEST} drops the event being enqueued.</li>
+ *     <li>{@link OverflowPolicy#COALESCE} keeps only the latest value per event name, view id and
+ *     mode id, at the position of the first pending occurrence. Only a new key arriving at a full
+ *     queue drops the oldest pending droppable event.</li>
+ * </ul>
+ */
+public class FlutterEventBatcher {
+    public static final long FLUSH_IMMEDIATELY = -1;
+    public static final long FLUSH_ON_VSYNC = 0;
+    public static final int DEFAULT_CAPACITY = 256;
+
+    public enum OverflowPolicy {
+        NEVER_DROP,
+        DROP_OLDEST,
+        DROP_NEWEST,
+        COALESCE
+    }
+
+    public interface BatchListener {
+        void onBatch(@NonNull List<Map<String, Object>> events);
+    }
+
+    private final MainThread mainThread;
+    private final BatchListener listener;
+    private volatile long flushIntervalMillis;
+    private volatile int capacity;
+
+    private final ConcurrentLinkedQueue<PendingEvent> queue = new ConcurrentLinkedQueue<>();
+    private final ConcurrentHashMap<String, PendingEvent> pendingByKey = new ConcurrentHashMap<>();
+    // Droppable events that are queued and neither delivered nor dropped yet.
+    private final AtomicInteger pendingCount = new AtomicInteger(0);
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final AtomicLong droppedEvents = new AtomicLong(0);
+
+    private final Runnable flushRunnable = this::flush;
+    private final Choreographer.FrameCallback frameCallback = frameTimeNanos -> flush();
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    public FlutterEventBatcher(MainThread mainThread, long flushIntervalMillis, int capacity, BatchListener listener) {
+        this.mainThread = mainThread;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.capacity = capacity;
+        this.listener = listener;
+    }
+
+    public void setFlushIntervalMillis(long flushIntervalMillis) {
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    public long getFlushIntervalMillis() {
+        return flushIntervalMillis;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public long getDroppedEventCount() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * Queues the event and returns the name of the event that was dropped to make room for it,
+     * which may be the event itself, or {@code null} when nothing was dropped.
+     */
+    @Nullable
+    public String enqueue(@NonNull String eventName, @Nullable Object viewId, @Nullable Object modeId,
+                          @NonNull Map<String, Object> event, @NonNull OverflowPolicy policy,
+                          @Nullable FlutterBridgeMetrics.Metric metric) {
+        String droppedEvent = null;
+        switch (policy) {
+            case COALESCE:
+                droppedEvent = enqueueCoalesced(eventName, eventName + '|' + viewId + '|' + modeId, event, metric);
+                break;
+            case DROP_NEWEST:
+                if (pendingCount.get() >= capacity) {
+                    droppedEvent = eventName;
+                } else {
+                    offer(new PendingEvent(eventName, null, true, event, metric));
+                }
+                break;
+            case DROP_OLDEST:
+                droppedEvent = dropOldestIfFull();
+                offer(new PendingEvent(eventName, null, true, event, metric));
+                break;
+            default:
+                offer(new PendingEvent(eventName, null, false, event, metric));
+                break;
+        }
+        if (droppedEvent != null) {
+            droppedEvents.incrementAndGet();
+        }
+        scheduleFlush();
+        return droppedEvent;
+    }
+
+    @Nullable
+    private String enqueueCoalesced(
+            String eventName,
+            String key,
+            Map<String, Object> event,
+            @Nullable FlutterBridgeMetrics.Metric metric
+    ) {
+        while (true) {
+            PendingEvent existing = pendingByKey.get(key);
+            if (existing == null) {
+                PendingEvent fresh = new PendingEvent(eventName, key, true, event, metric);
+                // Another thread may queue the same key meanwhile, its value is updated instead.
+                if (pendingByKey.putIfAbsent(key, fresh) != null) continue;
+
+                String droppedEvent = dropOldestIfFull();
+                offer(fresh);
+                return droppedEvent;
+            }
+            Map<String, Object> current = existing.event.get();
+            if (current != null && existing.event.compareAndSet(current, event)) {
+                return null;
+            }
+            // The pending entry was delivered or dropped in the meantime, so start a new one.
+            pendingByKey.remove(key, existing);
+        }
+    }
+
+    private void offer(PendingEvent pending) {
+        if (pending.droppable) {
+            pendingCount.incrementAndGet();
+        }
+        queue.offer(pending);
+    }
+
+    // The dropped entry stays in the queue without its event until the next flush skips it.
+    @Nullable
+    private String dropOldestIfFull() {
+        while (pendingCount.get() >= capacity) {
+            PendingEvent oldest = null;
+            for (PendingEvent pending : queue) {
+                if (pending.droppable && pending.event.get() != null) {
+                    oldest = pending;
+                    break;
+                }
+            }
+            if (oldest == null) return null;
+            if (take(oldest) != null) {
+                return oldest.eventName;
+            }
+        }
+        return null;
+    }
+
+    // Claims the event of an entry, only one of the flush and a producer making room gets it.
+    @Nullable
+    private Map<String, Object> take(PendingEvent pending) {
+        Map<String, Object> event = pending.event.getAndSet(null);
+        if (event == null) return null;
+
+        if (pending.droppable) {
+            pendingCount.decrementAndGet();
+        }
+        if (pending.key != null) {
+            pendingByKey.remove(pending.key, pending);
+        }
+        return event;
+    }
+
+    private void scheduleFlush() {
+        if (!flushScheduled.compareAndSet(false, true)) return;
+
+        long interval = flushIntervalMillis;
+        if (interval > FLUSH_ON_VSYNC) {
+            handler.postDelayed(flushRunnable, interval);
+        } else if (interval == FLUSH_ON_VSYNC) {
+            mainThread.runOnMainThread(() -> Choreographer.getInstance().postFrameCallback(frameCallback));
+        } else {
+            mainThread.runOnMainThread(flushRunnable);
+        }
+    }
+
+    /**
+     * Delivers the pending events right away. Must be called on the main thread.
+     */
+    public void flushPending() {
+        flush();
+    }
+
+    private void flush() {
+        // Reset the flag before draining, so events enqueued during the flush schedule a new one.
+        flushScheduled.set(false);
+
+        List<Map<String, Object>> batch = new ArrayList<>();
+        PendingEvent pending;
+        while ((pending = queue.poll()) != null) {
+            Map<String, Object> event = take(pending);
+            if (event == null) continue;
+
+            batch.add(event);
+            if (pending.metric != null) {
+                pending.metric.recordQueueDelay(pending.enqueuedNanos);
+            }
+        }
+        if (!batch.isEmpty()) {
+            listener.onBatch(batch);
+        }
+    }
+
+    private static final class PendingEvent {
+        final String eventName;
+        @Nullable
+        final String key;
+        final boolean droppable;
+        @Nullable
+        final FlutterBridgeMetrics.Metric metric;
+        final long enqueuedNanos;
+        // Cleared by whoever delivers or drops the event.
+        final AtomicReference<Map<String, Object>> event;
+
+        PendingEvent(
+                String eventName,
+                @Nullable String key,
+                boolean droppable,
+                Map<String, Object> event,
+                @Nullable FlutterBridgeMetrics.Metric metric
+        ) {
+            this.eventName = eventName;
+            this.key = key;
+            this.droppable = droppable;
+            this.event = new AtomicReference<>(event);
+            this.metric = metric;
+            this.enqueuedNanos = metric == null ? 0 : FlutterBridgeMetrics.now();
+        }
+    }
+}
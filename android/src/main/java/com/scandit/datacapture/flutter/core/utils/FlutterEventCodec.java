@@ -0,0 +1,102 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import androidx.annotation.NonNull;
+
+import com.scandit.datacapture.core.source.FrameSourceState;
+import com.scandit.datacapture.core.source.TorchState;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes event payloads with the core message codec layout so that Dart can decode them
+ * with a {@code CoreMessageCodec} instead of parsing a JSON string.
+ * <p>
+ * Each thread reuses its own output buffer, so encoding a payload only allocates the final
+ * byte array that is handed to the event sink.
+ */
+public class FlutterEventCodec extends FlutterCoreMessageCodec {
+    public static final FlutterEventCodec INSTANCE = new FlutterEventCodec();
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    // Buffers that grew above this size are dropped after use instead of being kept alive.
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private final ThreadLocal<ReusableOutputStream> buffers = new ThreadLocal<ReusableOutputStream>() {
+        @Override
+        protected ReusableOutputStream initialValue() {
+            return new ReusableOutputStream();
+        }
+    };
+
+    @NonNull
+    public byte[] encodePayload(@NonNull Map<String, Object> payload) {
+        ReusableOutputStream stream = buffers.get();
+        stream.reset();
+        writeValue(stream, payload);
+        byte[] encoded = stream.toByteArray();
+        if (stream.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            buffers.remove();
+        }
+        return encoded;
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+        if (value == JSONObject.NULL) {
+            super.writeValue(stream, null);
+        } else if (value instanceof JSONObject) {
+            super.writeValue(stream, toMap((JSONObject) value));
+        } else if (value instanceof JSONArray) {
+            super.writeValue(stream, toList((JSONArray) value));
+        } else if (value instanceof FrameSourceState || value instanceof TorchState) {
+            // The core codec writes these as tagged values, other enums go as their name.
+            super.writeValue(stream, value);
+        } else if (value instanceof Enum<?>) {
+            super.writeValue(stream, value.toString());
+        } else {
+            super.writeValue(stream, value);
+        }
+    }
+
+    private static Map<String, Object> toMap(JSONObject json) {
+        Map<String, Object> map = new HashMap<>(json.length());
+        Iterator<String> keys = json.keys();
+        while (keys.hasNext()) {
+            String key = keys.next();
+            map.put(key, json.opt(key));
+        }
+        return map;
+    }
+
+    private static List<Object> toList(JSONArray json) {
+        List<Object> list = new ArrayList<>(json.length());
+        for (int i = 0; i < json.length(); i++) {
+            list.add(json.opt(i));
+        }
+        return list;
+    }
+
+    private static final class ReusableOutputStream extends ByteArrayOutputStream {
+        ReusableOutputStream() {
+            super(INITIAL_BUFFER_SIZE);
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import androidx.annotation.NonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of the events Dart subscribed to, globally or for a specific view or mode.
+ * <p>
+ * Registrations are reference counted. Lookups only read concurrent maps, so they are lock-free
+ * and constant time and can be done for every event before it gets serialized.
+ * Events that were never registered are reported as observed, since not every native listener
+ * announces its subscription through the frameworks result.
+ * <p>
+ * Every global subscription that starts from no listeners gets a new epoch, so callers can tell
+ * whether Dart kept listening to an event in between two lookups.
+ */
+public class FlutterEventListenerRegistry {
+    public static final long NOT_SUBSCRIBED = 0;
+
+    private final ConcurrentHashMap<String, Integer> globalListeners = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, ConcurrentHashMap<String, Integer>> viewListeners =
+            new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, ConcurrentHashMap<String, Integer>> modeListeners =
+            new ConcurrentHashMap<>();
+
+    private final Set<String> trackedGlobalEvents = ConcurrentHashMap.newKeySet();
+    private final Set<String> trackedViewEvents = ConcurrentHashMap.newKeySet();
+    private final Set<String> trackedModeEvents = ConcurrentHashMap.newKeySet();
+
+    private final ConcurrentHashMap<String, Long> subscriptionEpochs = new ConcurrentHashMap<>();
+    private final AtomicLong lastEpoch = new AtomicLong(NOT_SUBSCRIBED);
+
+    public void register(@NonNull List<String> eventNames) {
+        trackedGlobalEvents.addAll(eventNames);
+        for (String eventName : eventNames) {
+            globalListeners.compute(eventName, (key, count) -> {
+                if (count == null) {
+                    subscriptionEpochs.put(key, lastEpoch.incrementAndGet());
+                    return 1;
+                }
+                return count + 1;
+            });
+        }
+    }
+
+    public void unregister(@NonNull List<String> eventNames) {
+        for (String eventName : eventNames) {
+            globalListeners.computeIfPresent(eventName, FlutterEventListenerRegistry::decrement);
+        }
+    }
+
+    public void registerForView(int viewId, @NonNull List<String> eventNames) {
+        trackedViewEvents.addAll(eventNames);
+        registerScoped(viewListeners, viewId, eventNames);
+    }
+
+    public void unregisterForView(int viewId, @NonNull List<String> eventNames) {
+        unregisterScoped(viewListeners, viewId, eventNames);
+    }
+
+    public void registerForMode(int modeId, @NonNull List<String> eventNames) {
+        trackedModeEvents.addAll(eventNames);
+        registerScoped(modeListeners, modeId, eventNames);
+    }
+
+    public void unregisterForMode(int modeId, @NonNull List<String> eventNames) {
+        unregisterScoped(modeListeners, modeId, eventNames);
+    }
+
+    public boolean hasListeners(@NonNull String eventName) {
+        return !trackedGlobalEvents.contains(eventName) || globalListeners.containsKey(eventName);
+    }
+
+    /**
+     * Returns the epoch of the current global subscription to the event, or {@link #NOT_SUBSCRIBED}
+     * when Dart did not register a listener for it. Unlike {@link #hasListeners(String)}, events
+     * that were never registered are not subscribed.
+     */
+    public long getSubscriptionEpoch(@NonNull String eventName) {
+        if (!globalListeners.containsKey(eventName)) return NOT_SUBSCRIBED;
+        Long epoch = subscriptionEpochs.get(eventName);
+        return epoch != null ? epoch : NOT_SUBSCRIBED;
+    }
+
+    public boolean hasViewListeners(int viewId, @NonNull String eventName) {
+        if (!trackedViewEvents.contains(eventName)) return true;
+        Map<String, Integer> listeners = viewListeners.get(viewId);
+        return listeners != null && listeners.containsKey(eventName);
+    }
+
+    public boolean hasModeListeners(int modeId, @NonNull String eventName) {
+        if (!trackedModeEvents.contains(eventName)) return true;
+        Map<String, Integer> listeners = modeListeners.get(modeId);
+        return listeners != null && listeners.containsKey(eventName);
+    }
+
+    private static void registerScoped(
+            ConcurrentHashMap<Integer, ConcurrentHashMap<String, Integer>> listeners,
+            int id,
+            List<String> eventNames
+    ) {
+        listeners.compute(id, (key, events) -> {
+            ConcurrentHashMap<String, Integer> result = events == null ? new ConcurrentHashMap<>() : events;
+            for (String eventName : eventNames) {
+                result.merge(eventName, 1, Integer::sum);
+            }
+            return result;
+        });
+    }
+
+    private static void unregisterScoped(
+            ConcurrentHashMap<Integer, ConcurrentHashMap<String, Integer>> listeners,
+            int id,
+            List<String> eventNames
+    ) {
+        listeners.computeIfPresent(id, (key, events) -> {
+            for (String eventName : eventNames) {
+                events.computeIfPresent(eventName, FlutterEventListenerRegistry::decrement);
+            }
+            return events.isEmpty() ? null : events;
+        });
+    }
+
+    private static Integer decrement(String eventName, Integer count) {
+        return count > 1 ? count - 1 : null;
+    }
+}
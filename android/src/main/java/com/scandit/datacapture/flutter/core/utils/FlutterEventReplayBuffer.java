@@ -0,0 +1,162 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The recent events of an emitter, replayed to an event sink that starts listening, so events
+ * emitted while an engine had no sink are not lost.
+ * <p>
+ * Events are kept in a preallocated ring of the last {@code capacity} events. Events that only
+ * carry the latest state are kept once per event name, view id and mode id instead, up to
+ * {@code capacity} keys. An engine that listened before only gets the events it missed since it
+ * stopped listening, an engine that never listened gets nothing.
+ * <p>
+ * Not thread safe, the emitter guards it.
+ */
+public class FlutterEventReplayBuffer {
+    private final Entry[] ring;
+    private int head = 0;
+    private int size = 0;
+
+    private final LinkedHashMap<String, Entry> latestByKey;
+
+    private long sequence = 0;
+
+    // engine key -> sequence of the last event emitted while the engine was listening
+    private final HashMap<Integer, Long> listenedUpTo = new HashMap<>();
+
+    public FlutterEventReplayBuffer(int capacity) {
+        ring = new Entry[capacity];
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new Entry();
+        }
+        latestByKey = new LinkedHashMap<String, Entry>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public void record(
+            @NonNull String eventName,
+            @Nullable Object viewId,
+            @Nullable Object modeId,
+            @NonNull Map<String, Object> event,
+            boolean latestOnly
+    ) {
+        sequence++;
+        if (latestOnly) {
+            String key = eventName + '|' + viewId + '|' + modeId;
+            Entry entry = new Entry();
+            entry.set(sequence, eventName, viewId, modeId, event);
+            // Removing first moves the key to the end, so the eldest key is the one updated least recently.
+            latestByKey.remove(key);
+            latestByKey.put(key, entry);
+            return;
+        }
+        if (ring.length == 0) return;
+
+        ring[head].set(sequence, eventName, viewId, modeId, event);
+        head = (head + 1) % ring.length;
+        if (size < ring.length) {
+            size++;
+        }
+    }
+
+    /**
+     * Returns the events the given engine missed, in the order they were emitted.
+     */
+    @NonNull
+    public List<Entry> missedBy(int engineKey) {
+        Long after = listenedUpTo.get(engineKey);
+        // An engine that never listened starts at the current event, older events belong to others.
+        if (after == null) return Collections.emptyList();
+
+        ArrayList<Entry> missed = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Entry entry = ring[(head - size + i + ring.length) % ring.length];
+            if (entry.sequence > after) {
+                missed.add(entry.copy());
+            }
+        }
+        for (Entry entry : latestByKey.values()) {
+            if (entry.sequence > after) {
+                missed.add(entry);
+            }
+        }
+        missed.sort((first, second) -> Long.compare(first.sequence, second.sequence));
+        return missed;
+    }
+
+    /**
+     * Remembers that the given engine received every event emitted so far.
+     */
+    public void stoppedListening(int engineKey) {
+        listenedUpTo.put(engineKey, sequence);
+    }
+
+    /**
+     * Forgets the given engine, once it is detached it never listens again.
+     */
+    public void forget(int engineKey) {
+        listenedUpTo.remove(engineKey);
+    }
+
+    /**
+     * Drops the retained events, for example when the module that emitted them is disposed.
+     */
+    public void clear() {
+        for (Entry entry : ring) {
+            entry.set(0, null, null, null, null);
+        }
+        head = 0;
+        size = 0;
+        latestByKey.clear();
+    }
+
+    public static final class Entry {
+        long sequence;
+        @Nullable
+        String eventName;
+        @Nullable
+        Object viewId;
+        @Nullable
+        Object modeId;
+        @Nullable
+        Map<String, Object> event;
+
+        void set(
+                long sequence,
+                @Nullable String eventName,
+                @Nullable Object viewId,
+                @Nullable Object modeId,
+                @Nullable Map<String, Object> event
+        ) {
+            this.sequence = sequence;
+            this.eventName = eventName;
+            this.viewId = viewId;
+            this.modeId = modeId;
+            this.event = event;
+        }
+
+        Entry copy() {
+            Entry copy = new Entry();
+            copy.set(sequence, eventName, viewId, modeId, event);
+            return copy;
+        }
+    }
+}
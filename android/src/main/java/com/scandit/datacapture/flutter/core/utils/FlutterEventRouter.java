@@ -0,0 +1,113 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import androidx.annotation.Nullable;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Routing table from view and mode ids to the engines that asked for their events.
+ * <p>
+ * Events carrying a routed view or mode id are only delivered to the sinks of those engines.
+ * Events without an id, or with an id nobody routed, are still broadcast to every sink.
+ */
+public class FlutterEventRouter {
+    // id -> engine key -> number of routes the engine holds for the id
+    private final ConcurrentHashMap<Integer, ConcurrentHashMap<Integer, Integer>> viewRoutes =
+            new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, ConcurrentHashMap<Integer, Integer>> modeRoutes =
+            new ConcurrentHashMap<>();
+
+    public void routeView(int viewId, int engineKey) {
+        addRoute(viewRoutes, viewId, engineKey);
+    }
+
+    public void unrouteView(int viewId, int engineKey) {
+        removeRoute(viewRoutes, viewId, engineKey);
+    }
+
+    public void routeMode(int modeId, int engineKey) {
+        addRoute(modeRoutes, modeId, engineKey);
+    }
+
+    public void unrouteMode(int modeId, int engineKey) {
+        removeRoute(modeRoutes, modeId, engineKey);
+    }
+
+    /**
+     * Drops every route the given engine holds for the view, routes of other engines stay.
+     */
+    public void removeView(int viewId, int engineKey) {
+        viewRoutes.computeIfPresent(viewId, (key, engines) -> {
+            engines.remove(engineKey);
+            return engines.isEmpty() ? null : engines;
+        });
+    }
+
+    public void removeEngine(int engineKey) {
+        removeEngine(viewRoutes, engineKey);
+        removeEngine(modeRoutes, engineKey);
+    }
+
+    public boolean isEmpty() {
+        return viewRoutes.isEmpty() && modeRoutes.isEmpty();
+    }
+
+    /**
+     * Returns the keys of the engines that should receive an event for the given ids, or
+     * {@code null} when the event has to be broadcast.
+     */
+    @Nullable
+    public Set<Integer> enginesFor(@Nullable Object viewId, @Nullable Object modeId) {
+        if (viewId instanceof Number) {
+            Map<Integer, Integer> engines = viewRoutes.get(((Number) viewId).intValue());
+            if (engines != null) return engines.keySet();
+        }
+        if (modeId instanceof Number) {
+            Map<Integer, Integer> engines = modeRoutes.get(((Number) modeId).intValue());
+            if (engines != null) return engines.keySet();
+        }
+        return null;
+    }
+
+    private static void addRoute(
+            ConcurrentHashMap<Integer, ConcurrentHashMap<Integer, Integer>> routes,
+            int id,
+            int engineKey
+    ) {
+        routes.compute(id, (key, engines) -> {
+            ConcurrentHashMap<Integer, Integer> result = engines == null ? new ConcurrentHashMap<>() : engines;
+            result.merge(engineKey, 1, Integer::sum);
+            return result;
+        });
+    }
+
+    private static void removeRoute(
+            ConcurrentHashMap<Integer, ConcurrentHashMap<Integer, Integer>> routes,
+            int id,
+            int engineKey
+    ) {
+        routes.computeIfPresent(id, (key, engines) -> {
+            engines.computeIfPresent(engineKey, (engine, count) -> count > 1 ? count - 1 : null);
+            return engines.isEmpty() ? null : engines;
+        });
+    }
+
+    private static void removeEngine(
+            ConcurrentHashMap<Integer, ConcurrentHashMap<Integer, Integer>> routes,
+            int engineKey
+    ) {
+        for (Integer id : routes.keySet()) {
+            routes.computeIfPresent(id, (key, engines) -> {
+                engines.remove(engineKey);
+                return engines.isEmpty() ? null : engines;
+            });
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import io.flutter.plugin.common.EventChannel;
+
+import java.util.List;
+
+/**
+ * The event subscriptions of a single Flutter engine. Registrations are recorded in the shared
+ * listener registry, and view or mode specific ones also route those events to this engine.
+ */
+public class FlutterEventScope {
+    public interface ViewRemovedListener {
+        void onViewRemoved(int viewId);
+    }
+
+    private final FlutterEmitter emitter;
+    private final FlutterEventListenerRegistry listenerRegistry;
+    private final FlutterEventRouter router;
+    private final int engineKey;
+
+    FlutterEventScope(
+            FlutterEmitter emitter,
+            FlutterEventListenerRegistry listenerRegistry,
+            FlutterEventRouter router,
+            int engineKey
+    ) {
+        this.emitter = emitter;
+        this.listenerRegistry = listenerRegistry;
+        this.router = router;
+        this.engineKey = engineKey;
+    }
+
+    /**
+     * The event sink of this engine, or {@code null} while Dart is not listening.
+     */
+    @Nullable
+    EventChannel.EventSink getSink() {
+        return emitter.getSink(engineKey);
+    }
+
+    public void register(@NonNull List<String> eventNames) {
+        listenerRegistry.register(eventNames);
+    }
+
+    public void unregister(@NonNull List<String> eventNames) {
+        listenerRegistry.unregister(eventNames);
+    }
+
+    public void registerForView(int viewId, @NonNull List<String> eventNames) {
+        listenerRegistry.registerForView(viewId, eventNames);
+        router.routeView(viewId, engineKey);
+    }
+
+    public void unregisterForView(int viewId, @NonNull List<String> eventNames) {
+        listenerRegistry.unregisterForView(viewId, eventNames);
+        router.unrouteView(viewId, engineKey);
+    }
+
+    public void registerForMode(int modeId, @NonNull List<String> eventNames) {
+        listenerRegistry.registerForMode(modeId, eventNames);
+        router.routeMode(modeId, engineKey);
+    }
+
+    public void unregisterForMode(int modeId, @NonNull List<String> eventNames) {
+        listenerRegistry.unregisterForMode(modeId, eventNames);
+        router.unrouteMode(modeId, engineKey);
+    }
+
+    /**
+     * Routes the events of a view created by this engine until {@link #removeView(int)} is called.
+     */
+    public void addView(int viewId) {
+        router.routeView(viewId, engineKey);
+    }
+
+    public void removeView(int viewId) {
+        router.removeView(viewId, engineKey);
+        emitter.notifyViewRemoved(engineKey, viewId);
+    }
+
+    /**
+     * Calls the listener whenever a view of this engine is removed, until the engine detaches.
+     */
+    public void addViewRemovedListener(@NonNull ViewRemovedListener listener) {
+        emitter.addViewRemovedListener(engineKey, listener);
+    }
+}
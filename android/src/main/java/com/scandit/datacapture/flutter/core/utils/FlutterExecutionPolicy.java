@@ -0,0 +1,249 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.scandit.datacapture.frameworks.core.utils.DefaultFrameworksLog;
+import com.scandit.datacapture.frameworks.core.utils.MainThread;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides on which thread a method call coming from the platform thread is executed.
+ * <p>
+ * Methods on the main thread allowlist run on the main thread. Methods marked as unordered run
+ * on a bounded background pool. Every other method runs on a serial lane on top of that pool,
+ * so calls touching the same context keep the order in which Dart sent them. Main thread
+ * methods that arrive while the lane is busy, or off the main thread, are queued on the lane
+ * as well and hop to the main thread in turn. The lane waits for them without holding a pool
+ * thread.
+ * <p>
+ * Calls never run on the thread that submits them: unordered calls beyond
+ * {@code queueCapacity} wait on the lane instead. Calls submitted after {@link #shutdown()}, or
+ * still waiting on the lane then, are rejected, so their caller can answer them with an error.
+ */
+public class FlutterExecutionPolicy {
+    private final MainThread mainThread;
+    private final Set<String> mainThreadMethods;
+    private final Set<String> unorderedMethods;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+    private final SerialExecutor orderedLane;
+
+    // Unordered calls submitted to the pool that didn't finish yet.
+    private final AtomicInteger unorderedPending = new AtomicInteger(0);
+
+    public FlutterExecutionPolicy(
+            @NonNull MainThread mainThread,
+            int threadCount,
+            int queueCapacity,
+            @NonNull Collection<String> mainThreadMethods,
+            @NonNull Collection<String> unorderedMethods
+    ) {
+        this.mainThread = mainThread;
+        this.mainThreadMethods = new HashSet<>(mainThreadMethods);
+        this.unorderedMethods = new HashSet<>(unorderedMethods);
+        this.queueCapacity = queueCapacity;
+        // The queue holds at most queueCapacity unordered calls and one step of the lane, the
+        // executor only rejects work once it is shut down.
+        this.executor = new ThreadPoolExecutor(
+                threadCount,
+                threadCount,
+                30,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new BridgeThreadFactory()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+        this.orderedLane = new SerialExecutor(executor, mainThread);
+    }
+
+    public boolean runsOnMainThread(@NonNull String methodName) {
+        return mainThreadMethods.contains(methodName);
+    }
+
+    /**
+     * Executes the given call. Must be invoked from the platform thread, or from a serial
+     * background task queue when the channel uses one.
+     */
+    public void execute(@NonNull String methodName, @NonNull Runnable call) {
+        execute(methodName, call, null);
+    }
+
+    /**
+     * Executes the given call, or runs {@code onRejected} instead when the policy is shut down
+     * before the call could run.
+     */
+    public void execute(@NonNull String methodName, @NonNull Runnable call, @Nullable Runnable onRejected) {
+        if (mainThreadMethods.contains(methodName)) {
+            if (Looper.myLooper() == Looper.getMainLooper() && orderedLane.isIdle()) {
+                call.run();
+            } else {
+                orderedLane.enqueue(new Task(call, true, onRejected));
+            }
+        } else if (unorderedMethods.contains(methodName)) {
+            executeUnordered(call, onRejected);
+        } else {
+            orderedLane.enqueue(new Task(call, false, onRejected));
+        }
+    }
+
+    private void executeUnordered(Runnable call, @Nullable Runnable onRejected) {
+        if (unorderedPending.incrementAndGet() > queueCapacity) {
+            // The pool is saturated, the call waits its turn on the lane instead.
+            unorderedPending.decrementAndGet();
+            orderedLane.enqueue(new Task(call, false, onRejected));
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    call.run();
+                } finally {
+                    unorderedPending.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            unorderedPending.decrementAndGet();
+            reject(onRejected);
+        }
+    }
+
+    /**
+     * Returns whether no call is queued on or running on the ordered lane.
+     */
+    public boolean isOrderedLaneIdle() {
+        return orderedLane.isIdle();
+    }
+
+    /**
+     * Runs work that does not belong to a method call on the background pool.
+     */
+    public void executeInBackground(@NonNull Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // Work that doesn't answer a call is not needed anymore once the policy is shut down.
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static void reject(@Nullable Runnable onRejected) {
+        if (onRejected != null) {
+            onRejected.run();
+        }
+    }
+
+    private static final class Task {
+        final Runnable runnable;
+        final boolean onMainThread;
+        @Nullable
+        final Runnable onRejected;
+
+        Task(Runnable runnable, boolean onMainThread, @Nullable Runnable onRejected) {
+            this.runnable = runnable;
+            this.onMainThread = onMainThread;
+            this.onRejected = onRejected;
+        }
+    }
+
+    private static final class SerialExecutor {
+        private final ConcurrentLinkedQueue<Task> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger(0);
+        private final Executor executor;
+        private final MainThread mainThread;
+
+        SerialExecutor(Executor executor, MainThread mainThread) {
+            this.executor = executor;
+            this.mainThread = mainThread;
+        }
+
+        /**
+         * Runs the task once every task queued before it finished, on the main thread when the
+         * task asks for it.
+         */
+        void enqueue(Task task) {
+            tasks.offer(task);
+            if (pending.getAndIncrement() == 0) {
+                scheduleNext();
+            }
+        }
+
+        boolean isIdle() {
+            return pending.get() == 0;
+        }
+
+        private void scheduleNext() {
+            try {
+                executor.execute(this::runNext);
+            } catch (RejectedExecutionException e) {
+                rejectRemaining();
+            }
+        }
+
+        private void runNext() {
+            Task task = tasks.poll();
+            if (task != null && task.onMainThread) {
+                // The lane continues from the main thread, no pool thread waits in the meantime.
+                mainThread.runOnMainThread(() -> run(task));
+            } else {
+                run(task);
+            }
+        }
+
+        private void run(@Nullable Task task) {
+            try {
+                if (task != null) {
+                    task.runnable.run();
+                }
+            } catch (RuntimeException e) {
+                DefaultFrameworksLog.getInstance().error("Bridge call failed: " + e.getMessage());
+            } finally {
+                if (pending.decrementAndGet() > 0) {
+                    scheduleNext();
+                }
+            }
+        }
+
+        // Takes the place of runNext for every pending task, once the pool is shut down.
+        private void rejectRemaining() {
+            do {
+                Task task = tasks.poll();
+                if (task != null) {
+                    reject(task.onRejected);
+                }
+            } while (pending.decrementAndGet() > 0);
+        }
+    }
+
+    private static final class BridgeThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger(0);
+
+        @Override
+        public Thread newThread(@NonNull Runnable runnable) {
+            Thread thread = new Thread(runnable, "scandit-flutter-core-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Applies the add, remove and replace operations of a JSON-Patch document in place.
+ */
+public final class FlutterJsonPatch {
+    private FlutterJsonPatch() {
+    }
+
+    /**
+     * Applies the patch to the given document and returns the patched document. The document is
+     * modified in place, except when the patch replaces it as a whole.
+     */
+    @NonNull
+    public static Object apply(@NonNull Object document, @NonNull JSONArray patch) throws JSONException {
+        Object result = document;
+        for (int i = 0; i < patch.length(); i++) {
+            JSONObject operation = patch.getJSONObject(i);
+            String op = operation.getString(FIELD_OP);
+            String path = operation.getString(FIELD_PATH);
+            Object value = operation.opt(FIELD_VALUE);
+
+            if (path.isEmpty()) {
+                if (!OP_REPLACE.equals(op) && !OP_ADD.equals(op)) {
+                    throw new JSONException("Unable to " + op + " the whole document");
+                }
+                result = value;
+                continue;
+            }
+
+            int lastSeparator = path.lastIndexOf('/');
+            Object parent = resolve(result, path.substring(0, lastSeparator));
+            String key = unescape(path.substring(lastSeparator + 1));
+
+            if (parent instanceof JSONObject) {
+                applyToObject((JSONObject) parent, op, key, value);
+            } else if (parent instanceof JSONArray) {
+                applyToArray((JSONArray) parent, op, key, value);
+            } else {
+                throw new JSONException("Invalid patch path " + path);
+            }
+        }
+        return result;
+    }
+
+    private static void applyToObject(JSONObject parent, String op, String key, @Nullable Object value)
+            throws JSONException {
+        switch (op) {
+            case OP_ADD:
+                parent.put(key, value);
+                break;
+            case OP_REPLACE:
+                if (!parent.has(key)) throw new JSONException("Missing key " + key);
+                parent.put(key, value);
+                break;
+            case OP_REMOVE:
+                if (parent.remove(key) == null) throw new JSONException("Missing key " + key);
+                break;
+            default:
+                throw new JSONException("Unsupported patch operation " + op);
+        }
+    }
+
+    private static void applyToArray(JSONArray parent, String op, String key, @Nullable Object value)
+            throws JSONException {
+        if (OP_ADD.equals(op) && "-".equals(key)) {
+            parent.put(value);
+            return;
+        }
+        int index = parseIndex(key);
+        switch (op) {
+            case OP_ADD:
+                if (index > parent.length()) throw new JSONException("Index out of bounds " + index);
+                // JSONArray can only insert by shifting the tail by hand.
+                for (int i = parent.length(); i > index; i--) {
+                    parent.put(i, parent.get(i - 1));
+                }
+                parent.put(index, value);
+                break;
+            case OP_REPLACE:
+                if (index >= parent.length()) throw new JSONException("Index out of bounds " + index);
+                parent.put(index, value);
+                break;
+            case OP_REMOVE:
+                if (index >= parent.length()) throw new JSONException("Index out of bounds " + index);
+                parent.remove(index);
+                break;
+            default:
+                throw new JSONException("Unsupported patch operation " + op);
+        }
+    }
+
+    private static Object resolve(Object document, String pointer) throws JSONException {
+        if (pointer.isEmpty()) return document;
+
+        Object current = document;
+        // Skip the leading separator, every token is preceded by one.
+        for (String token : pointer.substring(1).split("/", -1)) {
+            String key = unescape(token);
+            if (current instanceof JSONObject) {
+                current = ((JSONObject) current).get(key);
+            } else if (current instanceof JSONArray) {
+                current = ((JSONArray) current).get(parseIndex(key));
+            } else {
+                throw new JSONException("Invalid patch path " + pointer);
+            }
+        }
+        return current;
+    }
+
+    private static int parseIndex(String key) throws JSONException {
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            throw new JSONException("Invalid array index " + key);
+        }
+    }
+
+    private static String unescape(String token) {
+        return token.replace("~1", "/").replace("~0", "~");
+    }
+
+    private static final String FIELD_OP = "op";
+    private static final String FIELD_PATH = "path";
+    private static final String FIELD_VALUE = "value";
+    private static final String OP_ADD = "add";
+    private static final String OP_REMOVE = "remove";
+    private static final String OP_REPLACE = "replace";
+}
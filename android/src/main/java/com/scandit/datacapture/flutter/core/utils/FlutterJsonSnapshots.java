@@ -0,0 +1,99 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONTokener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The last context and view json received from Dart, together with their version.
+ * <p>
+ * An update call either carries the full json and its {@code version}, which replaces the
+ * snapshot, or a {@code <argument>Patch} against {@code baseVersion}. The patch is applied to the
+ * snapshot and the call is handed on with the full json, so the core module is unaware of it.
+ */
+public class FlutterJsonSnapshots {
+    public static final String PATCH_MISMATCH_ERROR_CODE = "JSON_PATCH_MISMATCH";
+
+    private static final String METHOD_UPDATE_VIEW = "updateDataCaptureView";
+
+    private static final Map<String, String> JSON_ARGUMENTS = new HashMap<>();
+
+    static {
+        JSON_ARGUMENTS.put("updateContextFromJson", "contextJson");
+        JSON_ARGUMENTS.put(METHOD_UPDATE_VIEW, "viewJson");
+    }
+
+    private final ConcurrentHashMap<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the call with the full json, or {@code null} when its patch doesn't apply to the
+     * current snapshot. Dart then sends the full json again.
+     */
+    @Nullable
+    public FlutterMethodCall resolve(@NonNull FlutterMethodCall call) {
+        String argumentName = JSON_ARGUMENTS.get(call.getMethod());
+        long version = argumentName == null ? NO_VERSION : call.getLong(FIELD_VERSION, NO_VERSION);
+        if (version == NO_VERSION) return call;
+
+        String key = call.getMethod() + ":" + call.getInt(FIELD_VIEW_ID, 0);
+        String patch = call.argument(argumentName + PATCH_SUFFIX);
+
+        if (patch == null) {
+            String json = call.argument(argumentName);
+            try {
+                snapshots.put(key, new Snapshot(version, new JSONTokener(json).nextValue()));
+            } catch (JSONException | NullPointerException e) {
+                // The core module reports the invalid json, the next patch falls back to a full update.
+                snapshots.remove(key);
+            }
+            return call;
+        }
+
+        Snapshot snapshot = snapshots.remove(key);
+        if (snapshot == null || snapshot.version != call.getLong(FIELD_BASE_VERSION, NO_VERSION)) {
+            return null;
+        }
+        try {
+            Object document = FlutterJsonPatch.apply(snapshot.document, new JSONArray(patch));
+            snapshots.put(key, new Snapshot(version, document));
+            return call.withArgument(argumentName, document.toString());
+        } catch (JSONException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Drops the snapshot of a view that was disposed.
+     */
+    public void removeView(int viewId) {
+        snapshots.remove(METHOD_UPDATE_VIEW + ":" + viewId);
+    }
+
+    private static final class Snapshot {
+        final long version;
+        final Object document;
+
+        Snapshot(long version, Object document) {
+            this.version = version;
+            this.document = document;
+        }
+    }
+
+    private static final long NO_VERSION = -1;
+    private static final String FIELD_VERSION = "version";
+    private static final String FIELD_BASE_VERSION = "baseVersion";
+    private static final String FIELD_VIEW_ID = "viewId";
+    private static final String PATCH_SUFFIX = "Patch";
+}
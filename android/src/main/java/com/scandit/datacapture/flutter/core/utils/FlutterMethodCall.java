@@ -12,64 +12,107 @@ import com.scandit.datacapture.frameworks.core.method.FrameworksMethodCall;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
 import io.flutter.plugin.common.MethodCall;
 
+/**
+ * A method call parsed once: the method name and the argument map are resolved when the call is
+ * created, so every later access is a single map lookup. {@link #arguments()} returns the raw
+ * arguments, {@link #argument(String)} narrows whole doubles, and the typed getters narrow the
+ * decoded value directly, without allocating.
+ */
 public class FlutterMethodCall implements FrameworksMethodCall {
 
-    private final MethodCall call;
+    private final String method;
+
+    @Nullable
+    private final Map<String, Object> arguments;
 
     public FlutterMethodCall(@NonNull MethodCall call) {
-        this.call = call;
+        this.arguments = call.arguments instanceof Map ? call.arguments() : null;
+        Object methodName = this.arguments == null ? null : this.arguments.get("methodName");
+        this.method = methodName instanceof String ? (String) methodName : call.method;
+    }
+
+    private FlutterMethodCall(String method, @Nullable Map<String, Object> arguments) {
+        this.method = method;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Returns a copy of this call with the given argument added or replaced.
+     */
+    @NonNull
+    public FlutterMethodCall withArgument(@NonNull String key, @Nullable Object value) {
+        Map<String, Object> copy = arguments == null ? new HashMap<>() : new HashMap<>(arguments);
+        copy.put(key, value);
+        return new FlutterMethodCall(method, copy);
     }
 
     @NonNull
     @Override
     public String getMethod() {
-        if (hasArgument("methodName")) {
-            return argument("methodName");
-        }
-        return call.method;
+        return method;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <T> T argument(@NonNull String key) {
-        Object value = call.argument(key);
-        return (T) convertNumber(value);
+        return arguments == null ? null : (T) convertNumber(arguments.get(key));
     }
 
     @Override
     public boolean hasArgument(@NonNull String key) {
-        return call.hasArgument(key);
+        return arguments != null && arguments.containsKey(key);
+    }
+
+    public int getInt(@NonNull String key, int defaultValue) {
+        Object value = rawArgument(key);
+        return value instanceof Number ? ((Number) value).intValue() : defaultValue;
+    }
+
+    public long getLong(@NonNull String key, long defaultValue) {
+        Object value = rawArgument(key);
+        return value instanceof Number ? ((Number) value).longValue() : defaultValue;
+    }
+
+    public double getDouble(@NonNull String key, double defaultValue) {
+        Object value = rawArgument(key);
+        return value instanceof Number ? ((Number) value).doubleValue() : defaultValue;
     }
 
+    public boolean getBoolean(@NonNull String key, boolean defaultValue) {
+        Object value = rawArgument(key);
+        return value instanceof Boolean ? (Boolean) value : defaultValue;
+    }
+
+    // The decoded value as it is, the typed getters narrow it without boxing it again.
+    @Nullable
+    private Object rawArgument(@NonNull String key) {
+        return arguments == null ? null : arguments.get(key);
+    }
 
     @Override
     public @NotNull Map<@NotNull String, @Nullable Object> arguments() {
-        return Objects.requireNonNull(call.arguments());
+        return Objects.requireNonNull(arguments);
     }
 
     @Nullable
-    private Object convertNumber(@Nullable Object value) {
-        if (!(value instanceof Number)) {
+    private static Object convertNumber(@Nullable Object value) {
+        if (!(value instanceof Double)) {
             return value;
         }
 
-        Number number = (Number) value;
-
-        if (value instanceof Double) {
-            double d = number.doubleValue();
-            if (d == Math.floor(d) && !Double.isInfinite(d)) {
-                long longValue = number.longValue();
-                if (longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE) {
-                    return (int) longValue;
-                }
-                return longValue;
+        double d = (Double) value;
+        if (d == Math.floor(d) && !Double.isInfinite(d)) {
+            long longValue = (long) d;
+            if (longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE) {
+                return (int) longValue;
             }
+            return longValue;
         }
 
         return value;
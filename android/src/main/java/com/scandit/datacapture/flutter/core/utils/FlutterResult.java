@@ -5,32 +5,167 @@
  */
 package com.scandit.datacapture.flutter.core.utils;
 
+import android.os.Looper;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.scandit.datacapture.frameworks.core.result.FrameworksResult;
 import com.scandit.datacapture.frameworks.core.utils.DefaultFrameworksLog;
 import com.scandit.datacapture.frameworks.core.utils.FrameworksLog;
+import com.scandit.datacapture.frameworks.core.utils.MainThread;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugin.common.MethodChannel;
 
 public class FlutterResult implements FrameworksResult {
+    public static final int NO_CHUNKED_RESULT = 0;
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private static volatile int chunkSize = DEFAULT_CHUNK_SIZE;
+
     private final MethodChannel.Result result;
 
+    @Nullable
+    private final FlutterEventScope eventScope;
+
+    @Nullable
+    private final MainThread mainThread;
+
+    @Nullable
+    private FlutterBridgeMetrics.Metric metric;
+    private long startNanos;
+
+    private int chunkedResultId = NO_CHUNKED_RESULT;
+
+    private final AtomicBoolean replied = new AtomicBoolean(false);
+
     public FlutterResult(MethodChannel.Result result) {
+        this(result, null);
+    }
+
+    public FlutterResult(MethodChannel.Result result, @Nullable FlutterEventScope eventScope) {
+        this(result, eventScope, null);
+    }
+
+    /**
+     * When a main thread is given, replies sent from a background thread are posted to it, since
+     * the channel only accepts replies on the platform thread.
+     */
+    public FlutterResult(
+            MethodChannel.Result result,
+            @Nullable FlutterEventScope eventScope,
+            @Nullable MainThread mainThread
+    ) {
         this.result = result;
+        this.eventScope = eventScope;
+        this.mainThread = mainThread;
+    }
+
+    /**
+     * Records the latency from the given start time to the reply, and the size of the reply, in
+     * the given metric.
+     */
+    @NonNull
+    public FlutterResult measure(@Nullable FlutterBridgeMetrics.Metric metric, long startNanos) {
+        this.metric = metric;
+        this.startNanos = startNanos;
+        return this;
+    }
+
+    /**
+     * Sets the number of UTF-16 characters per chunk of a chunked result. Longer string results
+     * are the ones that get chunked.
+     */
+    public static void setChunkSize(int chunkSize) {
+        FlutterResult.chunkSize = chunkSize;
+    }
+
+    /**
+     * Allows a string result longer than the chunk size to be streamed over the event channel
+     * of this engine in chunks tagged with the given id. The method call is then answered with
+     * the id and the chunk count, and Dart assembles the result from the chunks.
+     * <p>
+     * The whole result is still held natively and in Dart, only the single messages get smaller.
+     */
+    @NonNull
+    public FlutterResult chunked(int chunkedResultId) {
+        this.chunkedResultId = chunkedResultId;
+        return this;
     }
 
     @Override
     public void success(@Nullable Object result) {
+        if (!markReplied()) return;
+        FlutterResultChunker chunker = createChunker(result);
+        if (chunker == null) {
+            runOnPlatformThread(() -> reply(result));
+            return;
+        }
+        FlutterBridgeMetrics.Metric currentMetric = metric;
+        if (currentMetric != null) {
+            currentMetric.addPayloadBytes(((String) result).length());
+        }
+        Map<String, Object> header = chunker.createHeader();
+        runOnPlatformThread(() -> reply(header));
+        chunker.start();
+    }
+
+    @Nullable
+    private FlutterResultChunker createChunker(@Nullable Object result) {
+        int currentChunkSize = chunkSize;
+        if (chunkedResultId == NO_CHUNKED_RESULT || eventScope == null || currentChunkSize <= 0) return null;
+        if (!(result instanceof String) || ((String) result).length() <= currentChunkSize) return null;
+
+        // Without a listening sink the result is sent in one piece.
+        EventChannel.EventSink sink = eventScope.getSink();
+        if (sink == null) return null;
+        return new FlutterResultChunker(sink, chunkedResultId, (String) result, currentChunkSize);
+    }
+
+    private void reply(@Nullable Object result) {
+        FlutterBridgeMetrics.Metric currentMetric = metric;
+        if (currentMetric != null) {
+            currentMetric.record(startNanos);
+            if (result instanceof String) {
+                currentMetric.addPayloadBytes(((String) result).length());
+            } else if (result instanceof byte[]) {
+                currentMetric.addPayloadBytes(((byte[]) result).length);
+            }
+        }
         this.result.success(result);
     }
 
     @Override
     public void error(@NonNull String errorCode, @Nullable String errorMessage, @Nullable Object errorDetails) {
-        this.result.error(errorCode, errorMessage, errorDetails);
+        if (!markReplied()) return;
+        runOnPlatformThread(() -> {
+            FlutterBridgeMetrics.Metric currentMetric = metric;
+            if (currentMetric != null) {
+                currentMetric.record(startNanos);
+            }
+            this.result.error(errorCode, errorMessage, errorDetails);
+        });
+    }
+
+    // A call is answered once, later replies, like an error raised after the result was sent, are dropped.
+    private boolean markReplied() {
+        if (replied.compareAndSet(false, true)) return true;
+
+        DefaultFrameworksLog.getInstance().error("The method call was already answered, dropping the reply");
+        return false;
+    }
+
+    private void runOnPlatformThread(Runnable reply) {
+        if (mainThread == null || Looper.myLooper() == Looper.getMainLooper()) {
+            reply.run();
+        } else {
+            mainThread.runOnMainThread(reply);
+        }
     }
 
     @Override
@@ -40,32 +175,44 @@ public class FlutterResult implements FrameworksResult {
 
     @Override
     public void registerCallbackForEvents(@NonNull List<String> eventNames) {
-        // nop
+        if (eventScope != null) {
+            eventScope.register(eventNames);
+        }
     }
 
     @Override
     public void unregisterCallbackForEvents(@NonNull List<String> eventNames) {
-        // nop
+        if (eventScope != null) {
+            eventScope.unregister(eventNames);
+        }
     }
 
     @Override
     public void registerModeSpecificCallback(int modeId, @NonNull List<String> eventNames) {
-        // nop
+        if (eventScope != null) {
+            eventScope.registerForMode(modeId, eventNames);
+        }
     }
 
     @Override
     public void unregisterModeSpecificCallback(int modeId, @NonNull List<String> eventNames) {
-        // nop
+        if (eventScope != null) {
+            eventScope.unregisterForMode(modeId, eventNames);
+        }
     }
 
     @Override
     public void registerViewSpecificCallback(int viewId, @NonNull List<String> eventNames) {
-        // nop
+        if (eventScope != null) {
+            eventScope.registerForView(viewId, eventNames);
+        }
     }
 
     @Override
     public void unregisterViewSpecificCallback(int viewId, @NonNull List<String> eventNames) {
-        // nop
+        if (eventScope != null) {
+            eventScope.unregisterForView(viewId, eventNames);
+        }
     }
 }
 
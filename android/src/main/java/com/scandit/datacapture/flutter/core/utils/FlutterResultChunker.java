@@ -0,0 +1,106 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.flutter.plugin.common.EventChannel;
+
+/**
+ * Streams a large string result to an event sink as sequenced chunks, one chunk per main thread
+ * message, so only a single chunk is encoded at a time and other messages can run in between.
+ * <p>
+ * This bounds the size of each platform message, not the peak memory of the result. The SDK
+ * builds the whole string before it is chunked, it is kept here until the last chunk was sent,
+ * and Dart assembles it again before decoding it.
+ */
+class FlutterResultChunker implements Runnable {
+    static final String CHUNK_EVENT_NAME = "FlutterResult.chunk";
+    static final String FIELD_CHUNKED_RESULT_ID = "chunkedResultId";
+    static final String FIELD_CHUNK_INDEX = "chunkIndex";
+    static final String FIELD_CHUNK_COUNT = "chunkCount";
+
+    private static final Handler handler = new Handler(Looper.getMainLooper());
+
+    private final EventChannel.EventSink sink;
+    private final int resultId;
+    private final String payload;
+    private final int chunkSize;
+    private final int chunkCount;
+
+    // Only touched on the main thread.
+    private int nextIndex = 0;
+    private int nextStart = 0;
+
+    FlutterResultChunker(@NonNull EventChannel.EventSink sink, int resultId, @NonNull String payload, int chunkSize) {
+        this.sink = sink;
+        this.resultId = resultId;
+        this.payload = payload;
+        this.chunkSize = chunkSize;
+        this.chunkCount = countChunks(payload, chunkSize);
+    }
+
+    int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * The reply that tells Dart to assemble the result from the chunks.
+     */
+    @NonNull
+    Map<String, Object> createHeader() {
+        Map<String, Object> header = new HashMap<>();
+        header.put(FIELD_CHUNKED_RESULT_ID, resultId);
+        header.put(FIELD_CHUNK_COUNT, chunkCount);
+        return header;
+    }
+
+    void start() {
+        handler.post(this);
+    }
+
+    @Override
+    public void run() {
+        int end = chunkEnd(payload, nextStart, chunkSize);
+
+        Map<String, Object> event = new HashMap<>();
+        event.put("event", CHUNK_EVENT_NAME);
+        event.put("payload", payload.substring(nextStart, end));
+        event.put(FIELD_CHUNKED_RESULT_ID, resultId);
+        event.put(FIELD_CHUNK_INDEX, nextIndex);
+        event.put(FIELD_CHUNK_COUNT, chunkCount);
+        sink.success(event);
+
+        nextIndex++;
+        nextStart = end;
+        if (nextIndex < chunkCount) {
+            handler.post(this);
+        }
+    }
+
+    private static int countChunks(String payload, int chunkSize) {
+        int count = 0;
+        for (int start = 0; start < payload.length(); start = chunkEnd(payload, start, chunkSize)) {
+            count++;
+        }
+        return count;
+    }
+
+    // Never splits a surrogate pair, each chunk has to be valid UTF-16 on its own.
+    private static int chunkEnd(String payload, int start, int chunkSize) {
+        int end = Math.min(start + chunkSize, payload.length());
+        if (end < payload.length() && end - start > 1 && Character.isHighSurrogate(payload.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+}
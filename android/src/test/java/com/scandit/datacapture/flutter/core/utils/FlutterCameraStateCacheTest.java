@@ -0,0 +1,207 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+
+public class FlutterCameraStateCacheTest {
+    private static final String FRAME_SOURCE_STATE_CHANGED = "FrameSourceListener.onStateChanged";
+    private static final String TORCH_STATE_CHANGED = "TorchListener.onTorchStateChanged";
+    private static final String WORLD_FACING = "worldFacing";
+    private static final String USER_FACING = "userFacing";
+
+    private final FlutterCameraStateCache cache = new FlutterCameraStateCache();
+    private final FlutterEventListenerRegistry registry = new FlutterEventListenerRegistry();
+    private final List<Object> answers = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        cache.setListenerRegistry(registry);
+        registry.register(Collections.singletonList(FRAME_SOURCE_STATE_CHANGED));
+    }
+
+    @Test
+    public void answersTheLastAnswerOfTheSdk() {
+        readFromSdk("getCameraState", WORLD_FACING, "on");
+
+        assertTrue(answer("getCameraState", WORLD_FACING));
+        assertEquals("on", answers.get(answers.size() - 1));
+    }
+
+    @Test
+    public void answersPerMethodAndCamera() {
+        readFromSdk("getCameraState", WORLD_FACING, "on");
+
+        assertFalse(answer("getCameraState", USER_FACING));
+        assertFalse(answer("isTorchAvailable", WORLD_FACING));
+    }
+
+    @Test
+    public void neverAnswersOtherMethods() {
+        readFromSdk("getZoomLevel", WORLD_FACING, 2.0);
+
+        assertFalse(answer("getZoomLevel", WORLD_FACING));
+    }
+
+    @Test
+    public void answersNothingWithoutASubscription() {
+        registry.unregister(Collections.singletonList(FRAME_SOURCE_STATE_CHANGED));
+        readFromSdk("getCameraState", WORLD_FACING, "on");
+
+        assertFalse(answer("getCameraState", WORLD_FACING));
+    }
+
+    @Test
+    public void answersNothingWithoutARegistry() {
+        cache.setListenerRegistry(null);
+        readFromSdk("getCameraState", WORLD_FACING, "on");
+
+        assertFalse(answer("getCameraState", WORLD_FACING));
+    }
+
+    @Test
+    public void dropsAnswersOfAnEarlierSubscription() {
+        readFromSdk("getCameraState", WORLD_FACING, "on");
+        registry.unregister(Collections.singletonList(FRAME_SOURCE_STATE_CHANGED));
+        registry.register(Collections.singletonList(FRAME_SOURCE_STATE_CHANGED));
+
+        assertFalse(answer("getCameraState", WORLD_FACING));
+    }
+
+    @Test
+    public void aStateChangeInvalidatesOnlyItsCamera() {
+        readFromSdk("getCameraState", WORLD_FACING, "on");
+        readFromSdk("getCameraState", USER_FACING, "off");
+
+        cache.onEvent(FRAME_SOURCE_STATE_CHANGED, payload(WORLD_FACING));
+
+        assertFalse(answer("getCameraState", WORLD_FACING));
+        assertTrue(answer("getCameraState", USER_FACING));
+    }
+
+    @Test
+    public void aTorchStateChangeInvalidatesItsCamera() {
+        readFromSdk("isTorchAvailable", WORLD_FACING, true);
+
+        cache.onEvent(TORCH_STATE_CHANGED, payload(WORLD_FACING));
+
+        assertFalse(answer("isTorchAvailable", WORLD_FACING));
+    }
+
+    @Test
+    public void aStateChangeWithoutCameraInvalidatesEveryCamera() {
+        readFromSdk("getCameraState", WORLD_FACING, "on");
+        readFromSdk("getCameraState", USER_FACING, "off");
+
+        cache.onEvent(FRAME_SOURCE_STATE_CHANGED, new HashMap<>());
+
+        assertFalse(answer("getCameraState", WORLD_FACING));
+        assertFalse(answer("getCameraState", USER_FACING));
+    }
+
+    @Test
+    public void otherEventsInvalidateNothing() {
+        readFromSdk("getCameraState", WORLD_FACING, "on");
+
+        cache.onEvent("ZoomListener.onZoomLevelChanged", payload(WORLD_FACING));
+
+        assertTrue(answer("getCameraState", WORLD_FACING));
+    }
+
+    @Test
+    public void callsChangingTheCameraInvalidateWhenTheyStartAndWhenTheyReply() {
+        readFromSdk("getCameraState", WORLD_FACING, "on");
+
+        FlutterResult switchResult = (FlutterResult) cache.capture(call("switchCameraToDesiredState", WORLD_FACING), recording());
+        assertFalse(answer("getCameraState", WORLD_FACING));
+
+        // An answer read while the switch runs may already be outdated when the switch replies.
+        readFromSdk("getCameraState", WORLD_FACING, "starting");
+        switchResult.success(null);
+
+        assertFalse(answer("getCameraState", WORLD_FACING));
+    }
+
+    @Test
+    public void anAnswerReadWhileTheStateChangedIsNotKept() {
+        FlutterResult result = (FlutterResult) cache.capture(call("getCameraState", WORLD_FACING), recording());
+        cache.onEvent(FRAME_SOURCE_STATE_CHANGED, payload(WORLD_FACING));
+        result.success("off");
+
+        assertEquals("off", answers.get(answers.size() - 1));
+        assertFalse(answer("getCameraState", WORLD_FACING));
+    }
+
+    @Test
+    public void staleAnswersGoToTheSdk() throws InterruptedException {
+        cache.setMaxStalenessMillis(0);
+        readFromSdk("getCameraState", WORLD_FACING, "on");
+        Thread.sleep(2);
+
+        assertFalse(answer("getCameraState", WORLD_FACING));
+    }
+
+    @Test
+    public void clearDropsEveryAnswer() {
+        readFromSdk("getCameraState", WORLD_FACING, "on");
+        cache.clear();
+
+        assertFalse(answer("getCameraState", WORLD_FACING));
+    }
+
+    private void readFromSdk(String method, String cameraPosition, Object value) {
+        cache.capture(call(method, cameraPosition), recording()).success(value);
+    }
+
+    private boolean answer(String method, String cameraPosition) {
+        return cache.answer(call(method, cameraPosition), recording());
+    }
+
+    private FlutterResult recording() {
+        return new FlutterResult(new MethodChannel.Result() {
+            @Override
+            public void success(Object result) {
+                answers.add(result);
+            }
+
+            @Override
+            public void error(String errorCode, String errorMessage, Object errorDetails) {
+                answers.add(errorCode);
+            }
+
+            @Override
+            public void notImplemented() {
+            }
+        });
+    }
+
+    private static FlutterMethodCall call(String method, String cameraPosition) {
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("methodName", method);
+        arguments.put("cameraPosition", cameraPosition);
+        return new FlutterMethodCall(new MethodCall("executeCore", arguments));
+    }
+
+    private static Map<String, Object> payload(String cameraPosition) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("cameraPosition", cameraPosition);
+        return payload;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+
+public class FlutterCommandBatchTest {
+    private static final FlutterCommandBatch.Dispatcher INLINE =
+            (methodName, command, onRejected) -> command.run();
+
+    private final List<String> executed = new ArrayList<>();
+    private List<Map<String, Object>> batchResults = null;
+
+    @Test
+    public void runsEveryCommandInOrderAndAnswersWithAllResults() {
+        run(commands("a", "b", "c"), false, INLINE, (command, result) -> {
+            executed.add(command.getMethod());
+            result.success(command.getMethod() + "Result");
+        });
+
+        assertEquals(Arrays.asList("a", "b", "c"), executed);
+        assertEquals(3, batchResults.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(true, batchResults.get(i).get(FlutterCommandBatch.FIELD_SUCCESS));
+            assertEquals(executed.get(i) + "Result", batchResults.get(i).get(FlutterCommandBatch.FIELD_RESULT));
+        }
+    }
+
+    @Test
+    public void anEmptyBatchAnswersRightAway() {
+        run(new ArrayList<>(), false, INLINE, (command, result) -> executed.add(command.getMethod()));
+
+        assertEquals(0, batchResults.size());
+        assertEquals(0, executed.size());
+    }
+
+    @Test
+    public void stopsAtTheFirstErrorWhenRequested() {
+        run(commands("a", "fail", "c"), true, INLINE, this::failOnFail);
+
+        assertEquals(Arrays.asList("a", "fail"), executed);
+        assertEquals(2, batchResults.size());
+        Map<String, Object> error = batchResults.get(1);
+        assertEquals(false, error.get(FlutterCommandBatch.FIELD_SUCCESS));
+        assertEquals("FAILED", error.get(FlutterCommandBatch.FIELD_ERROR_CODE));
+        assertEquals("fail failed", error.get(FlutterCommandBatch.FIELD_ERROR_MESSAGE));
+    }
+
+    @Test
+    public void keepsGoingAfterAnErrorOtherwise() {
+        run(commands("a", "fail", "c"), false, INLINE, this::failOnFail);
+
+        assertEquals(Arrays.asList("a", "fail", "c"), executed);
+        assertEquals(3, batchResults.size());
+        assertEquals(true, batchResults.get(2).get(FlutterCommandBatch.FIELD_SUCCESS));
+    }
+
+    @Test
+    public void startsACommandOnlyOnceThePreviousOneReplied() {
+        List<FlutterResult> pending = new ArrayList<>();
+        run(commands("a", "b"), false, INLINE, (command, result) -> {
+            executed.add(command.getMethod());
+            pending.add(result);
+        });
+
+        assertEquals(Arrays.asList("a"), executed);
+        pending.get(0).success(null);
+        assertEquals(Arrays.asList("a", "b"), executed);
+        assertNull(batchResults);
+        pending.get(1).success(null);
+        assertNotNull(batchResults);
+        assertEquals(2, batchResults.size());
+    }
+
+    @Test
+    public void commandsReplyingInlineDoNotGrowTheStack() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            names.add("command" + i);
+        }
+
+        run(commands(names.toArray(new String[0])), false, INLINE, (command, result) -> result.success(null));
+
+        assertEquals(20000, batchResults.size());
+    }
+
+    @Test
+    public void onlyTheFirstReplyOfACommandCounts() {
+        run(commands("a", "b"), false, INLINE, (command, result) -> {
+            executed.add(command.getMethod());
+            result.success(1);
+            result.success(2);
+        });
+
+        assertEquals(Arrays.asList("a", "b"), executed);
+        assertEquals(2, batchResults.size());
+        assertEquals(1, batchResults.get(0).get(FlutterCommandBatch.FIELD_RESULT));
+    }
+
+    @Test
+    public void aThrowingCommandIsAnsweredWithAnError() {
+        run(commands("a", "b"), false, INLINE, (command, result) -> {
+            if (command.getMethod().equals("a")) throw new IllegalStateException("broken");
+            result.success(null);
+        });
+
+        assertEquals(2, batchResults.size());
+        assertEquals("EXECUTION_FAILED", batchResults.get(0).get(FlutterCommandBatch.FIELD_ERROR_CODE));
+        assertEquals("broken", batchResults.get(0).get(FlutterCommandBatch.FIELD_ERROR_MESSAGE));
+        assertEquals(true, batchResults.get(1).get(FlutterCommandBatch.FIELD_SUCCESS));
+    }
+
+    @Test
+    public void aRejectedCommandIsAnsweredWithAnError() {
+        FlutterCommandBatch.Dispatcher rejecting = (methodName, command, onRejected) -> {
+            if (methodName.equals("b")) {
+                onRejected.run();
+            } else {
+                command.run();
+            }
+        };
+
+        run(commands("a", "b", "c"), true, rejecting, (command, result) -> {
+            executed.add(command.getMethod());
+            result.success(null);
+        });
+
+        assertEquals(Arrays.asList("a"), executed);
+        assertEquals(2, batchResults.size());
+        assertEquals("EXECUTION_REJECTED", batchResults.get(1).get(FlutterCommandBatch.FIELD_ERROR_CODE));
+    }
+
+    private void failOnFail(FlutterMethodCall command, FlutterResult result) {
+        executed.add(command.getMethod());
+        if (command.getMethod().equals("fail")) {
+            result.error("FAILED", command.getMethod() + " failed", null);
+        } else {
+            result.success(null);
+        }
+    }
+
+    private void run(
+            List<FlutterMethodCall> commands,
+            boolean stopOnError,
+            FlutterCommandBatch.Dispatcher dispatcher,
+            FlutterCommandBatch.Executor executor
+    ) {
+        new FlutterCommandBatch(commands, stopOnError, null, dispatcher, executor, new FlutterResult(new MethodChannel.Result() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public void success(Object result) {
+                batchResults = (List<Map<String, Object>>) result;
+            }
+
+            @Override
+            public void error(String errorCode, String errorMessage, Object errorDetails) {
+                throw new AssertionError("The batch itself never fails");
+            }
+
+            @Override
+            public void notImplemented() {
+                throw new AssertionError("The batch itself never fails");
+            }
+        })).start();
+    }
+
+    private static List<FlutterMethodCall> commands(String... methodNames) {
+        List<FlutterMethodCall> commands = new ArrayList<>();
+        for (String methodName : methodNames) {
+            Map<String, Object> arguments = new HashMap<>();
+            arguments.put("methodName", methodName);
+            commands.add(new FlutterMethodCall(new MethodCall("executeCore", arguments)));
+        }
+        return commands;
+    }
+}
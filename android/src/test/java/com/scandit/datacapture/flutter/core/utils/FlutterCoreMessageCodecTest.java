@@ -0,0 +1,144 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import com.scandit.datacapture.core.common.geometry.FloatWithUnit;
+import com.scandit.datacapture.core.common.geometry.MarginsWithUnit;
+import com.scandit.datacapture.core.common.geometry.MeasureUnit;
+import com.scandit.datacapture.core.common.geometry.Point;
+import com.scandit.datacapture.core.common.geometry.Quadrilateral;
+import com.scandit.datacapture.core.common.geometry.Size;
+import com.scandit.datacapture.core.source.FrameSourceState;
+import com.scandit.datacapture.core.source.TorchState;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks the wire format against the same bytes as test/core_message_codec_test.dart, so both
+ * sides of the core channels agree on it. Keep the two in sync.
+ */
+public class FlutterCoreMessageCodecTest {
+    private static final String POINT = "8000000000000000000000000000f83f00000000000002c0";
+    private static final String SIZE_IN_LIST = "0c0201810000000000000000000074400000000000006e40";
+    private static final String QUADRILATERAL = "8200000000000000"
+            + "0000000000000000" + "0000000000000000"
+            + "0000000000002440" + "0000000000000000"
+            + "0000000000002440" + "0000000000001440"
+            + "0000000000000000" + "0000000000001440";
+    private static final String MARGINS_WITH_UNIT = "8300000000000000"
+            + "0000000000002040" + "0000000000003040" + "000000000000e03f" + "0000000000000000"
+            + "00010200";
+    private static final String STATES = "0c03840485028408";
+    private static final String CONTEXT_STATUS = "860401000001026f6b";
+
+    private final FlutterCoreMessageCodec codec = FlutterCoreMessageCodec.INSTANCE;
+
+    @Test
+    public void writesAndReadsPoints() {
+        assertEquals(POINT, encode(new Point(1.5f, -2.25f)));
+
+        assertPoint(1.5f, -2.25f, (Point) decode(POINT));
+    }
+
+    @Test
+    public void alignsCoordinatesToTheStartOfTheMessage() {
+        assertEquals(SIZE_IN_LIST, encode(Arrays.asList(true, new Size(320f, 240f))));
+
+        List<?> list = (List<?>) decode(SIZE_IN_LIST);
+        assertEquals(true, list.get(0));
+        Size size = (Size) list.get(1);
+        assertEquals(320f, size.getWidth(), 0f);
+        assertEquals(240f, size.getHeight(), 0f);
+    }
+
+    @Test
+    public void writesAndReadsQuadrilaterals() {
+        Quadrilateral quadrilateral = new Quadrilateral(
+                new Point(0f, 0f), new Point(10f, 0f), new Point(10f, 5f), new Point(0f, 5f)
+        );
+        assertEquals(QUADRILATERAL, encode(quadrilateral));
+
+        Quadrilateral decoded = (Quadrilateral) decode(QUADRILATERAL);
+        assertPoint(0f, 0f, decoded.getTopLeft());
+        assertPoint(10f, 0f, decoded.getTopRight());
+        assertPoint(10f, 5f, decoded.getBottomRight());
+        assertPoint(0f, 5f, decoded.getBottomLeft());
+    }
+
+    @Test
+    public void writesAndReadsMarginsWithUnit() {
+        MarginsWithUnit margins = new MarginsWithUnit(
+                new FloatWithUnit(8f, MeasureUnit.DIP),
+                new FloatWithUnit(16f, MeasureUnit.PIXEL),
+                new FloatWithUnit(0.5f, MeasureUnit.FRACTION),
+                new FloatWithUnit(0f, MeasureUnit.DIP)
+        );
+        assertEquals(MARGINS_WITH_UNIT, encode(margins));
+
+        MarginsWithUnit decoded = (MarginsWithUnit) decode(MARGINS_WITH_UNIT);
+        assertSide(8f, MeasureUnit.DIP, decoded.getLeft());
+        assertSide(16f, MeasureUnit.PIXEL, decoded.getTop());
+        assertSide(0.5f, MeasureUnit.FRACTION, decoded.getRight());
+        assertSide(0f, MeasureUnit.DIP, decoded.getBottom());
+    }
+
+    @Test
+    public void writesEnumsAsTheirDartIndex() {
+        List<Object> states = Arrays.asList(FrameSourceState.STANDBY, TorchState.AUTO, FrameSourceState.SHUTTING_DOWN);
+        assertEquals(STATES, encode(states));
+
+        assertEquals(states, decode(STATES));
+    }
+
+    @Test
+    public void readsContextStatusesAsMaps() {
+        Map<?, ?> status = (Map<?, ?>) decode(CONTEXT_STATUS);
+
+        assertEquals(260, status.get("code"));
+        assertEquals("ok", status.get("message"));
+        assertEquals(true, status.get("isValid"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnknownEnumIndices() {
+        decode("8503");
+    }
+
+    private String encode(Object value) {
+        ByteBuffer buffer = codec.encodeMessage(value);
+        buffer.flip();
+        StringBuilder hex = new StringBuilder();
+        while (buffer.hasRemaining()) {
+            hex.append(String.format("%02x", buffer.get() & 0xFF));
+        }
+        return hex.toString();
+    }
+
+    private Object decode(String hex) {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        }
+        return codec.decodeMessage(ByteBuffer.wrap(bytes));
+    }
+
+    private static void assertPoint(float x, float y, Point point) {
+        assertEquals(x, point.getX(), 0f);
+        assertEquals(y, point.getY(), 0f);
+    }
+
+    private static void assertSide(float value, MeasureUnit unit, FloatWithUnit side) {
+        assertEquals(value, side.getValue(), 0f);
+        assertEquals(unit, side.getUnit());
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.scandit.datacapture.frameworks.core.utils.MainThread;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class FlutterEventBatcherTest {
+    private final List<Runnable> mainThreadTasks = new ArrayList<>();
+    private final MainThread mainThread = mainThreadTasks::add;
+    private final List<Map<String, Object>> delivered = new ArrayList<>();
+
+    private FlutterEventBatcher batcher;
+
+    @Before
+    public void setUp() {
+        batcher = createBatcher(2);
+    }
+
+    @Test
+    public void dropNewestDropsTheEventBeingEnqueued() {
+        assertNull(enqueue("a", FlutterEventBatcher.OverflowPolicy.DROP_NEWEST));
+        assertNull(enqueue("b", FlutterEventBatcher.OverflowPolicy.DROP_NEWEST));
+        assertEquals("c", enqueue("c", FlutterEventBatcher.OverflowPolicy.DROP_NEWEST));
+
+        batcher.flushPending();
+
+        assertEquals(Arrays.asList("a", "b"), deliveredNames());
+        assertEquals(1, batcher.getDroppedEventCount());
+    }
+
+    @Test
+    public void dropOldestDropsTheOldestPendingEvent() {
+        assertNull(enqueue("a", FlutterEventBatcher.OverflowPolicy.DROP_OLDEST));
+        assertNull(enqueue("b", FlutterEventBatcher.OverflowPolicy.DROP_OLDEST));
+        assertEquals("a", enqueue("c", FlutterEventBatcher.OverflowPolicy.DROP_OLDEST));
+
+        batcher.flushPending();
+
+        assertEquals(Arrays.asList("b", "c"), deliveredNames());
+        assertEquals(1, batcher.getDroppedEventCount());
+    }
+
+    @Test
+    public void neverDropEventsAreKeptAndDoNotCountTowardsTheCapacity() {
+        for (int i = 0; i < 5; i++) {
+            assertNull(enqueue("kept" + i, FlutterEventBatcher.OverflowPolicy.NEVER_DROP));
+        }
+        assertNull(enqueue("a", FlutterEventBatcher.OverflowPolicy.DROP_NEWEST));
+        assertNull(enqueue("b", FlutterEventBatcher.OverflowPolicy.DROP_NEWEST));
+
+        batcher.flushPending();
+
+        assertEquals(Arrays.asList("kept0", "kept1", "kept2", "kept3", "kept4", "a", "b"), deliveredNames());
+        assertEquals(0, batcher.getDroppedEventCount());
+    }
+
+    @Test
+    public void dropOldestSkipsNeverDropEvents() {
+        assertNull(enqueue("kept", FlutterEventBatcher.OverflowPolicy.NEVER_DROP));
+        assertNull(enqueue("a", FlutterEventBatcher.OverflowPolicy.DROP_OLDEST));
+        assertNull(enqueue("b", FlutterEventBatcher.OverflowPolicy.DROP_OLDEST));
+        assertEquals("a", enqueue("c", FlutterEventBatcher.OverflowPolicy.DROP_OLDEST));
+
+        batcher.flushPending();
+
+        assertEquals(Arrays.asList("kept", "b", "c"), deliveredNames());
+    }
+
+    @Test
+    public void coalesceKeepsTheLatestValueAtThePositionOfTheFirstOccurrence() {
+        assertNull(enqueueCoalesced("zoom", 1, 1));
+        assertNull(enqueue("other", FlutterEventBatcher.OverflowPolicy.NEVER_DROP));
+        assertNull(enqueueCoalesced("zoom", 1, 2));
+
+        batcher.flushPending();
+
+        assertEquals(Arrays.asList("zoom", "other"), deliveredNames());
+        assertEquals(2, delivered.get(0).get("value"));
+        assertEquals(0, batcher.getDroppedEventCount());
+    }
+
+    @Test
+    public void coalesceKeepsOneValuePerView() {
+        assertNull(enqueueCoalesced("zoom", 1, 1));
+        assertNull(enqueueCoalesced("zoom", 2, 2));
+        assertNull(enqueueCoalesced("zoom", 1, 3));
+
+        batcher.flushPending();
+
+        assertEquals(2, delivered.size());
+        assertEquals(3, delivered.get(0).get("value"));
+        assertEquals(2, delivered.get(1).get("value"));
+    }
+
+    @Test
+    public void coalesceDropsTheOldestEventOnlyForANewKeyAtAFullQueue() {
+        batcher = createBatcher(1);
+        assertNull(enqueueCoalesced("zoom", 1, 1));
+        assertNull(enqueueCoalesced("zoom", 1, 2));
+        assertEquals("zoom", enqueueCoalesced("size", 1, 3));
+
+        batcher.flushPending();
+
+        assertEquals(Collections.singletonList("size"), deliveredNames());
+        assertEquals(1, batcher.getDroppedEventCount());
+    }
+
+    @Test
+    public void coalescedEventAfterAFlushIsQueuedAgain() {
+        enqueueCoalesced("zoom", 1, 1);
+        batcher.flushPending();
+        enqueueCoalesced("zoom", 1, 2);
+        batcher.flushPending();
+
+        assertEquals(Arrays.asList("zoom", "zoom"), deliveredNames());
+        assertEquals(2, delivered.get(1).get("value"));
+    }
+
+    @Test
+    public void aFlushIsScheduledOncePerBatch() {
+        enqueue("a", FlutterEventBatcher.OverflowPolicy.NEVER_DROP);
+        enqueue("b", FlutterEventBatcher.OverflowPolicy.NEVER_DROP);
+        assertEquals(1, mainThreadTasks.size());
+
+        mainThreadTasks.get(0).run();
+        enqueue("c", FlutterEventBatcher.OverflowPolicy.NEVER_DROP);
+
+        assertEquals(2, mainThreadTasks.size());
+        assertEquals(Arrays.asList("a", "b"), deliveredNames());
+    }
+
+    private FlutterEventBatcher createBatcher(int capacity) {
+        return new FlutterEventBatcher(mainThread, FlutterEventBatcher.FLUSH_IMMEDIATELY, capacity, delivered::addAll);
+    }
+
+    private String enqueue(String eventName, FlutterEventBatcher.OverflowPolicy policy) {
+        return batcher.enqueue(eventName, null, null, event(eventName, 0), policy, null);
+    }
+
+    private String enqueueCoalesced(String eventName, int viewId, int value) {
+        return batcher.enqueue(
+                eventName, viewId, null, event(eventName, value), FlutterEventBatcher.OverflowPolicy.COALESCE, null
+        );
+    }
+
+    private List<Object> deliveredNames() {
+        List<Object> names = new ArrayList<>();
+        for (Map<String, Object> event : delivered) {
+            names.add(event.get("event"));
+        }
+        return names;
+    }
+
+    private static Map<String, Object> event(String eventName, int value) {
+        Map<String, Object> event = new HashMap<>();
+        event.put("event", eventName);
+        event.put("value", value);
+        return event;
+    }
+}
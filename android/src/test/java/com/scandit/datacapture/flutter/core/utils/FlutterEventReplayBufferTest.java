@@ -0,0 +1,122 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+package com.scandit.datacapture.flutter.core.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class FlutterEventReplayBufferTest {
+    private static final int ENGINE = 1;
+    private static final int OTHER_ENGINE = 2;
+
+    private final FlutterEventReplayBuffer buffer = new FlutterEventReplayBuffer(2);
+
+    @Test
+    public void anEngineThatNeverListenedGetsNothing() {
+        record("a");
+        record("b");
+
+        assertTrue(buffer.missedBy(ENGINE).isEmpty());
+    }
+
+    @Test
+    public void anEngineOnlyGetsTheEventsEmittedSinceItStoppedListening() {
+        record("a");
+        buffer.stoppedListening(ENGINE);
+        record("b");
+        buffer.stoppedListening(OTHER_ENGINE);
+        record("c");
+
+        assertEquals(Arrays.asList("b", "c"), names(buffer.missedBy(ENGINE)));
+        assertEquals(Collections.singletonList("c"), names(buffer.missedBy(OTHER_ENGINE)));
+    }
+
+    @Test
+    public void theRingKeepsTheLastEventsUpToItsCapacity() {
+        buffer.stoppedListening(ENGINE);
+        record("a");
+        record("b");
+        record("c");
+
+        assertEquals(Arrays.asList("b", "c"), names(buffer.missedBy(ENGINE)));
+    }
+
+    @Test
+    public void latestOnlyEventsKeepTheirLatestValuePerKeyInEmissionOrder() {
+        buffer.stoppedListening(ENGINE);
+        recordLatest("state", 1, "starting");
+        record("a");
+        recordLatest("state", 1, "on");
+        recordLatest("state", 2, "off");
+
+        List<FlutterEventReplayBuffer.Entry> missed = buffer.missedBy(ENGINE);
+
+        assertEquals(Arrays.asList("a", "state", "state"), names(missed));
+        assertEquals("on", missed.get(1).event.get("value"));
+        assertEquals("off", missed.get(2).event.get("value"));
+    }
+
+    @Test
+    public void latestOnlyEventsAreBoundedByTheCapacity() {
+        buffer.stoppedListening(ENGINE);
+        recordLatest("state", 1, "on");
+        recordLatest("state", 2, "on");
+        recordLatest("state", 3, "on");
+
+        List<FlutterEventReplayBuffer.Entry> missed = buffer.missedBy(ENGINE);
+
+        assertEquals(2, missed.size());
+        assertEquals(2, missed.get(0).viewId);
+        assertEquals(3, missed.get(1).viewId);
+    }
+
+    @Test
+    public void aForgottenEngineGetsNothing() {
+        buffer.stoppedListening(ENGINE);
+        record("a");
+        buffer.forget(ENGINE);
+
+        assertTrue(buffer.missedBy(ENGINE).isEmpty());
+    }
+
+    @Test
+    public void clearDropsTheRetainedEvents() {
+        buffer.stoppedListening(ENGINE);
+        record("a");
+        recordLatest("state", 1, "on");
+        buffer.clear();
+
+        assertTrue(buffer.missedBy(ENGINE).isEmpty());
+
+        record("b");
+        assertEquals(Collections.singletonList("b"), names(buffer.missedBy(ENGINE)));
+    }
+
+    private void record(String eventName) {
+        buffer.record(eventName, null, null, Collections.singletonMap("event", eventName), false);
+    }
+
+    private void recordLatest(String eventName, int viewId, String value) {
+        Map<String, Object> event = Collections.singletonMap("value", value);
+        buffer.record(eventName, viewId, null, event, true);
+    }
+
+    private static List<String> names(List<FlutterEventReplayBuffer.Entry> entries) {
+        List<String> names = new ArrayList<>();
+        for (FlutterEventReplayBuffer.Entry entry : entries) {
+            names.add(entry.eventName);
+        }
+        return names;
+    }
+}
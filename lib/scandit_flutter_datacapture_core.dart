@@ -57,6 +57,8 @@ export 'src/data_capture_view.dart' show DataCaptureOverlay, DataCaptureView, Da
 export 'src/internal/view_attachable.dart' show ViewAttachable;
 export 'src/internal/flutter_event.dart' show FlutterEvent;
 export 'src/internal/event_stream_extensions.dart' show EventStreamExtensions, FlutterEventStreamExtensions;
+export 'src/internal/bridge_metrics.dart' show BridgeMetrics;
+export 'src/internal/core_command_batch.dart' show CoreCommandBatch, CoreCommandResult;
 export 'src/defaults.dart' show BrushDefaults, NativeBrushDefaults, CameraSettingsDefaults;
 export 'src/feedback.dart' show Feedback, Sound, Vibration, WaveFormVibration;
 
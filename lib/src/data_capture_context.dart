@@ -11,9 +11,13 @@ import 'dart:io';
 import 'package:flutter/services.dart';
 import 'package:scandit_flutter_datacapture_core/src/frame_data_settings.dart';
 import 'package:scandit_flutter_datacapture_core/src/internal/base_controller.dart';
+import 'package:scandit_flutter_datacapture_core/src/internal/chunked_result.dart';
+import 'package:scandit_flutter_datacapture_core/src/internal/core_command_batch.dart';
+import 'package:scandit_flutter_datacapture_core/src/internal/core_message_codec.dart';
 import 'package:scandit_flutter_datacapture_core/src/internal/core_plugin_events.dart';
 import 'package:scandit_flutter_datacapture_core/src/internal/event_stream_extensions.dart';
 import 'package:scandit_flutter_datacapture_core/src/internal/generated/core_method_handler.dart';
+import 'package:scandit_flutter_datacapture_core/src/internal/json_patch.dart';
 import 'package:scandit_flutter_datacapture_core/src/source/frame_source.dart';
 
 import 'open_source_software_license_info.dart';
@@ -168,10 +172,11 @@ class DataCaptureContext with PrivateDataCaptureContext implements Serializable
 
   Future<void> setMode(DataCaptureMode mode) async {
     // Remove all modes first to avoid conflicts
-    await removeAllModes();
+    final hadModes = _modes.isNotEmpty;
+    _clearAllModes();
     // Add the new mode
     _modes.add(mode);
-    await _controller.addModeToContext(mode);
+    await _controller.replaceModes(mode, removeExisting: hadModes);
     mode._context = this;
   }
 
@@ -236,8 +241,10 @@ class DataCaptureContext with PrivateDataCaptureContext implements Serializable
   }
 
   static Future<OpenSourceSoftwareLicenseInfo> getOpenSourceSoftwareLicenseInfo() {
-    var coreMethodHandler = CoreMethodHandler(const MethodChannel(FunctionNames.methodsChannelName));
-    return coreMethodHandler.getOpenSourceSoftwareLicenseInfo().then((value) => OpenSourceSoftwareLicenseInfo(value));
+    var coreMethodHandler = CoreMethodHandler(const MethodChannel(FunctionNames.methodsChannelName, coreMethodCodec));
+    return ChunkedResult.receive(
+            (params) => coreMethodHandler.executeCore('CoreModule', 'getOpenSourceSoftwareLicenseInfo', params))
+        .then((value) => OpenSourceSoftwareLicenseInfo(value as String));
   }
 
   Future<void> applySettings(DataCaptureContextSettings settings) {
@@ -292,6 +299,8 @@ class _DataCaptureContextController extends BaseController {
 
   StreamSubscription? _contextEventsSubscription;
 
+  final JsonPatchSender _contextJsonPatch = JsonPatchSender('contextJson');
+
   PrivateDataCaptureContext get _privateContext {
     return context;
   }
@@ -314,7 +323,8 @@ class _DataCaptureContextController extends BaseController {
   Future<void> updateContextFromJSON() async {
     var encoded = jsonEncode(context.toMap());
     try {
-      await coreMethodHandler.updateContextFromJson(contextJson: encoded);
+      await _contextJsonPatch.send(
+          encoded, (params) => coreMethodHandler.executeCore('CoreModule', 'updateContextFromJson', params));
     } catch (error) {
       if (error is PlatformException) {
         _notifyListenersOfDeserializationError(error, "Update - $encoded");
@@ -333,6 +343,35 @@ class _DataCaptureContextController extends BaseController {
     }
   }
 
+  /// Removes all modes, when asked to, and adds the given one in a single round trip.
+  Future<void> replaceModes(DataCaptureMode mode, {required bool removeExisting}) async {
+    if (!removeExisting) {
+      return addModeToContext(mode);
+    }
+
+    var encoded = jsonEncode(mode.toMap());
+    final batch = CoreCommandBatch()
+      ..add('CoreModule', 'removeAllModes')
+      ..add('CoreModule', 'addModeToContext', {'modeJson': encoded});
+    final List<CoreCommandResult> results;
+    try {
+      results = await batch.execute();
+    } catch (error) {
+      if (error is PlatformException) {
+        _notifyListenersOfDeserializationError(error, "SetMode - $encoded");
+      }
+      return;
+    }
+
+    final steps = ['RemoveAllModes', 'AddMode - $encoded'];
+    for (var i = 0; i < results.length; i++) {
+      final error = results[i].error;
+      if (error != null) {
+        _notifyListenersOfDeserializationError(error, steps[i]);
+      }
+    }
+  }
+
   Future<void> removeModeFromContext(DataCaptureMode mode) async {
     var encoded = jsonEncode(mode.toMap());
     try {
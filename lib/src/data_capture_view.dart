@@ -8,6 +8,7 @@ import 'dart:async';
 import 'dart:convert';
 import 'dart:io';
 import 'dart:math';
+import 'dart:typed_data';
 
 import 'package:flutter/foundation.dart';
 import 'package:flutter/gestures.dart';
@@ -17,6 +18,7 @@ import 'package:flutter/widgets.dart';
 import 'package:scandit_flutter_datacapture_core/src/internal/base_controller.dart';
 import 'package:scandit_flutter_datacapture_core/src/internal/event_stream_extensions.dart';
 import 'package:scandit_flutter_datacapture_core/src/internal/generated/core_method_handler.dart';
+import 'package:scandit_flutter_datacapture_core/src/internal/json_patch.dart';
 import 'package:scandit_flutter_datacapture_core/src/internal/core_plugin_events.dart';
 
 import 'control.dart';
@@ -242,6 +244,18 @@ class DataCaptureView extends StatefulWidget with PrivateDataCaptureView {
         Future.error(Exception('DataCaptureView not initialized'));
   }
 
+  /// Maps many frame points at once. [points] holds `x, y` pairs, the result uses the same layout.
+  Future<Float64List> viewPointsForFramePoints(Float64List points) {
+    return _controller?.viewPointsForFramePoints(points) ?? Future.error(Exception('DataCaptureView not initialized'));
+  }
+
+  /// Maps many frame quadrilaterals at once. [quadrilaterals] holds the top left, top right, bottom
+  /// right and bottom left points of each quadrilateral as `x, y` pairs, the result uses the same layout.
+  Future<Float64List> viewQuadrilateralsForFrameQuadrilaterals(Float64List quadrilaterals) {
+    return _controller?.viewQuadrilateralsForFrameQuadrilaterals(quadrilaterals) ??
+        Future.error(Exception('DataCaptureView not initialized'));
+  }
+
   Future<void> addControl(Control control) {
     if (!_controls.contains(control)) {
       _controls.add(control);
@@ -281,6 +295,7 @@ class _DataCaptureViewController extends BaseController {
   StreamSubscription? _streamSubscription;
 
   final int _viewId;
+  final JsonPatchSender _viewJsonPatch = JsonPatchSender('viewJson');
 
   final DataCaptureView _view;
 
@@ -317,20 +332,79 @@ class _DataCaptureViewController extends BaseController {
     }
   }
 
-  Future<common.Point> viewPointForFramePoint(common.Point point) {
+  Future<common.Point> viewPointForFramePoint(common.Point point) async {
+    if (Platform.isAndroid) {
+      return await coreMethodHandler
+          .executeCore('CoreModule', 'viewPointForFramePoint', {'viewId': _viewId, 'point': point}) as common.Point;
+    }
     return coreMethodHandler
         .viewPointForFramePoint(viewId: _viewId, pointJson: jsonEncode(point.toMap()))
         .then((value) => common.Point.fromJSON(jsonDecode(value)));
   }
 
-  Future<common.Quadrilateral> viewQuadrilateralForFrameQuadrilateral(common.Quadrilateral quadrilateral) {
+  Future<common.Quadrilateral> viewQuadrilateralForFrameQuadrilateral(common.Quadrilateral quadrilateral) async {
+    if (Platform.isAndroid) {
+      return await coreMethodHandler.executeCore('CoreModule', 'viewQuadrilateralForFrameQuadrilateral',
+          {'viewId': _viewId, 'quadrilateral': quadrilateral}) as common.Quadrilateral;
+    }
     return coreMethodHandler
         .viewQuadrilateralForFrameQuadrilateral(viewId: _viewId, quadrilateralJson: jsonEncode(quadrilateral.toMap()))
         .then((value) => common.Quadrilateral.fromJSON(jsonDecode(value)));
   }
 
+  Future<Float64List> viewPointsForFramePoints(Float64List points) async {
+    if (!Platform.isAndroid) {
+      return _mapOneByOne(points, 2, (values) async {
+        var point = await viewPointForFramePoint(common.Point(values[0], values[1]));
+        return [point.x, point.y];
+      });
+    }
+    return await methodChannel.invokeMethod(FunctionNames.viewPointsForFramePoints, {
+      'viewId': _viewId,
+      'coordinates': points,
+    });
+  }
+
+  Future<Float64List> viewQuadrilateralsForFrameQuadrilaterals(Float64List quadrilaterals) async {
+    if (!Platform.isAndroid) {
+      return _mapOneByOne(quadrilaterals, 8, (values) async {
+        var quadrilateral = await viewQuadrilateralForFrameQuadrilateral(common.Quadrilateral(
+            common.Point(values[0], values[1]),
+            common.Point(values[2], values[3]),
+            common.Point(values[4], values[5]),
+            common.Point(values[6], values[7])));
+        return [
+          quadrilateral.topLeft.x,
+          quadrilateral.topLeft.y,
+          quadrilateral.topRight.x,
+          quadrilateral.topRight.y,
+          quadrilateral.bottomRight.x,
+          quadrilateral.bottomRight.y,
+          quadrilateral.bottomLeft.x,
+          quadrilateral.bottomLeft.y,
+        ];
+      });
+    }
+    return await methodChannel.invokeMethod(FunctionNames.viewQuadrilateralsForFrameQuadrilaterals, {
+      'viewId': _viewId,
+      'coordinates': quadrilaterals,
+    });
+  }
+
+  Future<Float64List> _mapOneByOne(
+      Float64List values, int stride, Future<List<double>> Function(Float64List values) map) async {
+    var mapped = Float64List(values.length);
+    for (var offset = 0; offset + stride <= values.length; offset += stride) {
+      mapped.setAll(offset, await map(Float64List.sublistView(values, offset, offset + stride)));
+    }
+    return mapped;
+  }
+
   Future<void> update(String viewJson) {
-    return coreMethodHandler.updateDataCaptureView(viewJson: viewJson).onError(_onError);
+    return _viewJsonPatch
+        .send(viewJson, (params) => coreMethodHandler.executeCore('CoreModule', 'updateDataCaptureView', params),
+            params: {'viewId': _viewId})
+        .onError(_onError);
   }
 
   void _onError(Object? error, StackTrace? stackTrace) {
@@ -13,6 +13,8 @@ import 'package:scandit_flutter_datacapture_core/src/source/focus_range.dart';
 import 'package:scandit_flutter_datacapture_core/src/function_names.dart';
 import 'package:scandit_flutter_datacapture_core/src/source/video_resolution.dart';
 import 'package:scandit_flutter_datacapture_core/src/source/macro_mode.dart';
+import 'package:scandit_flutter_datacapture_core/src/internal/chunked_result.dart';
+import 'package:scandit_flutter_datacapture_core/src/internal/core_message_codec.dart';
 
 import 'common.dart';
 import 'focus_gesture.dart';
@@ -310,8 +312,8 @@ class Defaults {
 
   static Future<dynamic> initializeDefaultsAsync() async {
     if (_isInitialized) return;
-    final channel = const MethodChannel(FunctionNames.methodsChannelName);
-    String result = await channel.invokeMethod('getDefaults');
+    final channel = const MethodChannel(FunctionNames.methodsChannelName, coreMethodCodec);
+    String result = await ChunkedResult.receive((params) => channel.invokeMethod('getDefaults', params));
     initializeDefaults(result);
   }
 }
@@ -12,6 +12,8 @@ class FunctionNames {
   static const String emitFeedbackMethodName = 'emitFeedback';
   static const String viewPointForFramePoint = 'viewPointForFramePoint';
   static const String viewQuadrilateralForFrameQuadrilateral = 'viewQuadrilateralForFrameQuadrilateral';
+  static const String viewPointsForFramePoints = 'viewPointsForFramePoints';
+  static const String viewQuadrilateralsForFrameQuadrilaterals = 'viewQuadrilateralsForFrameQuadrilaterals';
   static const String isTorchAvailableMethodName = 'isTorchAvailable';
   static const String switchCameraToDesiredState = 'switchCameraToDesiredState';
   static const String updateDataCaptureView = 'updateDataCaptureView';
@@ -19,6 +21,9 @@ class FunctionNames {
   static const String removeModeFromContext = 'removeModeFromContext';
   static const String removeAllModesFromContext = 'removeAllModesFromContext';
   static const String getOpenSourceSoftwareLicenseInfo = 'getOpenSourceSoftwareLicenseInfo';
+  static const String getBridgeMetrics = 'getBridgeMetrics';
+  static const String setBridgeMetricsEnabled = 'setBridgeMetricsEnabled';
+  static const String executeCoreBatch = 'executeCoreBatch';
 
   static const String methodsChannelName = 'com.scandit.datacapture.core/method_channel';
   static const String eventFrameSourceStateChanged = 'FrameSourceListener.onStateChanged';
@@ -1,10 +1,16 @@
 import 'dart:developer' as developer;
 import 'package:flutter/services.dart';
 
+import '../function_names.dart';
+import 'core_message_codec.dart';
+
 abstract class BaseController {
   final MethodChannel methodChannel;
 
-  BaseController(String methodChannelName) : methodChannel = MethodChannel(methodChannelName);
+  // Only the core channel uses the core codec, the channels of the other plugins keep the standard one.
+  BaseController(String methodChannelName)
+      : methodChannel = MethodChannel(methodChannelName,
+            methodChannelName == FunctionNames.methodsChannelName ? coreMethodCodec : const StandardMethodCodec());
 
   void onError(Object? error, StackTrace? stackTrace) {
     if (error == null) return;
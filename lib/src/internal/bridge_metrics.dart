@@ -0,0 +1,32 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+
+import 'dart:convert';
+import 'dart:io';
+
+import 'package:flutter/services.dart';
+import 'package:scandit_flutter_datacapture_core/src/function_names.dart';
+import 'package:scandit_flutter_datacapture_core/src/internal/core_message_codec.dart';
+
+/// Call counts, latency percentiles in microseconds and payload sizes recorded by the Android
+/// bridge, keyed by `method:<name>`, `event:<name>`, `view:create` and `view:dispose`.
+///
+/// Nothing is recorded until [setEnabled] turns the collection on. Other platforms don't record
+/// bridge metrics, their snapshot is always empty.
+class BridgeMetrics {
+  static const MethodChannel _channel = MethodChannel(FunctionNames.methodsChannelName, coreMethodCodec);
+
+  static Future<void> setEnabled(bool enabled) async {
+    if (!Platform.isAndroid) return;
+    await _channel.invokeMethod(FunctionNames.setBridgeMetricsEnabled, {'enabled': enabled});
+  }
+
+  static Future<Map<String, dynamic>> snapshot({bool reset = false}) async {
+    if (!Platform.isAndroid) return <String, dynamic>{};
+    String result = await _channel.invokeMethod(FunctionNames.getBridgeMetrics, {'reset': reset});
+    return jsonDecode(result) as Map<String, dynamic>;
+  }
+}
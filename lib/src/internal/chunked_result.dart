@@ -0,0 +1,95 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+
+import 'dart:async';
+import 'dart:io';
+
+import 'core_plugin_events.dart';
+
+typedef ChunkedResultCall = Future<dynamic> Function(Map<String, dynamic> params);
+
+/// Receives large string results that the Android plugin streams as chunks over the core event
+/// channel instead of sending them in a single reply. The chunks are appended as they arrive, so
+/// the result is never held in more than one piece on top of the assembled string.
+///
+/// Chunking keeps every platform message small, it does not bound the peak memory of a result.
+/// The whole string is built natively before it is sent and assembled here before it is decoded,
+/// since its callers parse it as a single JSON document.
+class ChunkedResult {
+  static const String chunkEventName = 'FlutterResult.chunk';
+  static const String resultIdField = 'chunkedResultId';
+  static const String chunkIndexField = 'chunkIndex';
+  static const String chunkCountField = 'chunkCount';
+
+  static const Duration _timeout = Duration(seconds: 30);
+
+  static int _nextResultId = 1;
+
+  /// Invokes [call] with the id of a chunked result. Results that were not chunked, and every
+  /// result on other platforms, are returned as they are.
+  static Future<dynamic> receive(ChunkedResultCall call, {Map<String, dynamic> params = const {}}) async {
+    if (!Platform.isAndroid) {
+      return call(params);
+    }
+
+    final resultId = _nextResultId++;
+    final assembler = _ChunkAssembler(resultId);
+    // Listen before calling, the first chunks may arrive before the reply.
+    final subscription = CorePluginEvents.coreEventStream.listen(assembler.add);
+    try {
+      final result = await call({...params, resultIdField: resultId});
+      if (result is Map && result[resultIdField] == resultId) {
+        return await assembler.complete(result[chunkCountField] as int).timeout(_timeout);
+      }
+      return result;
+    } finally {
+      await subscription.cancel();
+    }
+  }
+}
+
+class _ChunkAssembler {
+  final int resultId;
+  final StringBuffer _buffer = StringBuffer();
+  final Map<int, String> _outOfOrder = {};
+  final Completer<String> _completer = Completer<String>();
+
+  int _nextIndex = 0;
+  int? _chunkCount;
+
+  _ChunkAssembler(this.resultId);
+
+  void add(dynamic event) {
+    if (event is List) {
+      event.forEach(add);
+      return;
+    }
+    if (event is! Map ||
+        event['event'] != ChunkedResult.chunkEventName ||
+        event[ChunkedResult.resultIdField] != resultId) {
+      return;
+    }
+
+    _chunkCount = event[ChunkedResult.chunkCountField] as int;
+    _outOfOrder[event[ChunkedResult.chunkIndexField] as int] = event['payload'] as String;
+    while (_outOfOrder.containsKey(_nextIndex)) {
+      _buffer.write(_outOfOrder.remove(_nextIndex));
+      _nextIndex++;
+    }
+    _completeIfDone();
+  }
+
+  Future<String> complete(int chunkCount) {
+    _chunkCount = chunkCount;
+    _completeIfDone();
+    return _completer.future;
+  }
+
+  void _completeIfDone() {
+    if (_completer.isCompleted || _chunkCount == null || _nextIndex < _chunkCount!) return;
+    _completer.complete(_buffer.toString());
+  }
+}
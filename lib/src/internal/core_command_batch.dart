@@ -0,0 +1,87 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+
+import 'dart:io';
+
+import 'package:flutter/services.dart';
+import 'package:scandit_flutter_datacapture_core/src/function_names.dart';
+
+import 'core_message_codec.dart';
+import 'generated/core_method_handler.dart';
+
+class CoreCommandResult {
+  final bool success;
+  final dynamic result;
+  final String? errorCode;
+  final String? errorMessage;
+  final dynamic errorDetails;
+
+  CoreCommandResult._(this.success, this.result, this.errorCode, this.errorMessage, this.errorDetails);
+
+  factory CoreCommandResult.fromMap(Map map) {
+    return CoreCommandResult._(
+        map['success'] == true, map['result'], map['errorCode'], map['errorMessage'], map['errorDetails']);
+  }
+
+  /// The error of the command as a [PlatformException], or `null` when the command succeeded.
+  PlatformException? get error {
+    if (success) return null;
+    return PlatformException(code: errorCode ?? 'UNKNOWN', message: errorMessage, details: errorDetails);
+  }
+
+  /// Returns the result, or throws the error of the command as a [PlatformException].
+  dynamic get value {
+    final commandError = error;
+    if (commandError != null) {
+      throw commandError;
+    }
+    return result;
+  }
+}
+
+/// Core commands sent to the native side in a single channel call and run there in order.
+///
+/// Only the Android plugin runs batches, other platforms get one `executeCore` call per command.
+class CoreCommandBatch {
+  static const MethodChannel _channel = MethodChannel(FunctionNames.methodsChannelName, coreMethodCodec);
+
+  final List<Map<String, dynamic>> _commands = [];
+
+  void add(String moduleName, String methodName, [Map<String, dynamic> params = const {}]) {
+    _commands.add({'moduleName': moduleName, 'methodName': methodName, ...params});
+  }
+
+  bool get isEmpty => _commands.isEmpty;
+
+  /// Runs the commands and returns one result per command that ran. With [stopOnError] the
+  /// commands after the first failing one are not run.
+  Future<List<CoreCommandResult>> execute({bool stopOnError = false}) async {
+    if (!Platform.isAndroid) {
+      return _executeOneByOne(stopOnError);
+    }
+    final List<dynamic> results = await _channel
+        .invokeMethod(FunctionNames.executeCoreBatch, {'commands': _commands, 'stopOnError': stopOnError});
+    return results.map((result) => CoreCommandResult.fromMap(result as Map)).toList();
+  }
+
+  Future<List<CoreCommandResult>> _executeOneByOne(bool stopOnError) async {
+    final handler = CoreMethodHandler(_channel);
+    final results = <CoreCommandResult>[];
+    for (final command in _commands) {
+      final params = Map<String, dynamic>.from(command)
+        ..remove('moduleName')
+        ..remove('methodName');
+      try {
+        final result = await handler.executeCore(command['moduleName'], command['methodName'], params);
+        results.add(CoreCommandResult._(true, result, null, null, null));
+      } on PlatformException catch (error) {
+        results.add(CoreCommandResult._(false, null, error.code, error.message, error.details));
+        if (stopOnError) break;
+      }
+    }
+    return results;
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+
+import 'dart:convert';
+
+import 'package:flutter/foundation.dart';
+import 'package:flutter/services.dart';
+import 'package:scandit_flutter_datacapture_core/src/common.dart';
+import 'package:scandit_flutter_datacapture_core/src/context_status.dart';
+import 'package:scandit_flutter_datacapture_core/src/source/frame_source_state.dart';
+import 'package:scandit_flutter_datacapture_core/src/source/torch_state.dart';
+
+/// Method codec of the core channels, see [CoreMessageCodec].
+const MethodCodec coreMethodCodec = StandardMethodCodec(CoreMessageCodec());
+
+/// Standard message codec that also reads and writes the common core types as tagged binary
+/// values, matching `FlutterCoreMessageCodec` of the Android plugin. Coordinates are 64-bit
+/// floats, enums are a single byte holding their index.
+class CoreMessageCodec extends StandardMessageCodec {
+  const CoreMessageCodec();
+
+  // Tags below 128 belong to the standard message codec.
+  static const int _point = 128;
+  static const int _size = 129;
+  static const int _quadrilateral = 130;
+  static const int _marginsWithUnit = 131;
+  static const int _frameSourceState = 132;
+  static const int _torchState = 133;
+  static const int _contextStatus = 134;
+
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is Point) {
+      buffer.putUint8(_point);
+      _writePoint(buffer, value);
+    } else if (value is Size) {
+      buffer.putUint8(_size);
+      buffer.putFloat64(value.width);
+      buffer.putFloat64(value.height);
+    } else if (value is Quadrilateral) {
+      buffer.putUint8(_quadrilateral);
+      _writePoint(buffer, value.topLeft);
+      _writePoint(buffer, value.topRight);
+      _writePoint(buffer, value.bottomRight);
+      _writePoint(buffer, value.bottomLeft);
+    } else if (value is MarginsWithUnit) {
+      var sides = [value.left, value.top, value.right, value.bottom];
+      buffer.putUint8(_marginsWithUnit);
+      for (var side in sides) {
+        buffer.putFloat64(side.value);
+      }
+      for (var side in sides) {
+        buffer.putUint8(side.unit.index);
+      }
+    } else if (value is FrameSourceState) {
+      buffer.putUint8(_frameSourceState);
+      buffer.putUint8(value.index);
+    } else if (value is TorchState) {
+      buffer.putUint8(_torchState);
+      buffer.putUint8(value.index);
+    } else if (value is ContextStatus) {
+      var message = utf8.encode(value.message);
+      buffer.putUint8(_contextStatus);
+      buffer.putInt32(value.code);
+      buffer.putUint8(value.isValid ? 1 : 0);
+      writeSize(buffer, message.length);
+      buffer.putUint8List(Uint8List.fromList(message));
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case _point:
+        return _readPoint(buffer);
+      case _size:
+        return Size(buffer.getFloat64(), buffer.getFloat64());
+      case _quadrilateral:
+        return Quadrilateral(_readPoint(buffer), _readPoint(buffer), _readPoint(buffer), _readPoint(buffer));
+      case _marginsWithUnit:
+        var values = [buffer.getFloat64(), buffer.getFloat64(), buffer.getFloat64(), buffer.getFloat64()];
+        var sides = values.map((value) => DoubleWithUnit(value, MeasureUnit.values[buffer.getUint8()])).toList();
+        return MarginsWithUnit(sides[0], sides[1], sides[2], sides[3]);
+      case _frameSourceState:
+        return FrameSourceState.values[buffer.getUint8()];
+      case _torchState:
+        return TorchState.values[buffer.getUint8()];
+      case _contextStatus:
+        var code = buffer.getInt32();
+        var isValid = buffer.getUint8() != 0;
+        var message = utf8.decode(buffer.getUint8List(readSize(buffer)));
+        return ContextStatus.fromJSON({'code': code, 'message': message, 'isValid': isValid});
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+
+  static void _writePoint(WriteBuffer buffer, Point point) {
+    buffer.putFloat64(point.x);
+    buffer.putFloat64(point.y);
+  }
+
+  static Point _readPoint(ReadBuffer buffer) => Point(buffer.getFloat64(), buffer.getFloat64());
+}
@@ -8,7 +8,10 @@ import 'flutter_event.dart';
 
 extension EventStreamExtensions on Stream<dynamic> {
   Stream<FlutterEvent> asFlutterEvents() {
-    return map((event) => FlutterEvent.tryParse(event)).where((event) => event != null).cast<FlutterEvent>();
+    return expand(_unbatch)
+        .map((event) => FlutterEvent.tryParse(event))
+        .where((event) => event != null)
+        .cast<FlutterEvent>();
   }
 
   Stream<FlutterEvent> forMode(int modeId) {
@@ -33,3 +36,6 @@ extension FlutterEventStreamExtensions on Stream<FlutterEvent> {
     return where((event) => event.isEvent(eventName));
   }
 }
+
+// Native platforms may deliver several events at once as a List of event maps.
+Iterable<dynamic> _unbatch(dynamic event) => event is List ? event : [event];
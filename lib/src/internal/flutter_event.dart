@@ -5,14 +5,18 @@
  */
 
 import 'dart:convert';
+import 'dart:typed_data';
 
+import 'package:flutter/services.dart';
+import 'package:scandit_flutter_datacapture_core/src/internal/core_message_codec.dart';
 import 'package:scandit_flutter_datacapture_core/src/internal/sdk_logger.dart';
 
 /// A standardized event format for Flutter EventChannel communication.
 ///
 /// Native platforms send events as a Map with:
 /// - `event`: The event name (String) - accessed directly without JSON parsing
-/// - `payload`: The event payload as a JSON string - decoded lazily when accessed
+/// - `payload`: The event payload, either as a JSON string or as bytes encoded with the
+///   [StandardMessageCodec] - decoded lazily when accessed
 ///
 /// This format optimizes event processing by:
 /// 1. Allowing immediate event name filtering without JSON parsing
@@ -24,12 +28,15 @@ class FlutterEvent {
   final int? modeId;
   final int? viewId;
 
-  final String _payloadJson;
+  // Either a JSON String or StandardMessageCodec bytes (Uint8List).
+  final Object _rawPayload;
 
   Map<String, dynamic>? _cachedPayload;
 
-  FlutterEvent._({required this.eventName, this.modeId, this.viewId, required String payloadJson})
-      : _payloadJson = payloadJson;
+  static const StandardMessageCodec _payloadCodec = CoreMessageCodec();
+
+  FlutterEvent._({required this.eventName, this.modeId, this.viewId, required Object rawPayload})
+      : _rawPayload = rawPayload;
 
   /// Parses an event from the native Map format sent via EventChannel.
   ///
@@ -37,7 +44,7 @@ class FlutterEvent {
   /// ```dart
   /// {
   ///   "event": "EventName",      // String - event identifier
-  ///   "payload": "{...}",        // JSON String - event data
+  ///   "payload": "{...}",        // JSON String or Uint8List - event data
   ///   "modeId": 123,             // Optional int - for filtering
   ///   "viewId": 456              // Optional int - for filtering
   /// }
@@ -59,17 +66,17 @@ class FlutterEvent {
     final eventName = map['event'];
     final modeId = map['modeId'];
     final viewId = map['viewId'];
-    final payloadJson = map['payload'];
+    final rawPayload = map['payload'];
 
     if (eventName is! String) {
       throw FormatException('Missing or invalid "event" field');
     }
 
-    if (payloadJson is! String) {
+    if (rawPayload is! String && rawPayload is! Uint8List) {
       throw FormatException('Missing or invalid "payload" field');
     }
 
-    return FlutterEvent._(eventName: eventName, modeId: modeId, viewId: viewId, payloadJson: payloadJson);
+    return FlutterEvent._(eventName: eventName, modeId: modeId, viewId: viewId, rawPayload: rawPayload);
   }
 
   static FlutterEvent? tryParse(dynamic rawEvent) {
@@ -86,8 +93,22 @@ class FlutterEvent {
       return _cachedPayload!;
     }
 
+    final rawPayload = _rawPayload;
+    if (rawPayload is Uint8List) {
+      try {
+        final decoded = _payloadCodec.decodeMessage(ByteData.sublistView(rawPayload));
+        if (decoded is! Map) {
+          throw FormatException('Payload is not a map');
+        }
+        _cachedPayload = _normalizeMap(decoded);
+        return _cachedPayload!;
+      } catch (e) {
+        throw FormatException('Invalid binary payload: $e');
+      }
+    }
+
     try {
-      final decoded = jsonDecode(_payloadJson);
+      final decoded = jsonDecode(rawPayload as String);
       if (decoded is! Map<String, dynamic>) {
         throw FormatException('Payload is not a JSON object');
       }
@@ -98,6 +119,18 @@ class FlutterEvent {
     }
   }
 
+  // The codec decodes maps as Map<Object?, Object?>, while the payload consumers expect the
+  // same Map<String, dynamic> shape that jsonDecode produces.
+  static Map<String, dynamic> _normalizeMap(Map map) {
+    return map.map((key, value) => MapEntry(key as String, _normalizeValue(value)));
+  }
+
+  static dynamic _normalizeValue(dynamic value) {
+    if (value is Map) return _normalizeMap(value);
+    if (value is List) return value.map(_normalizeValue).toList();
+    return value;
+  }
+
   bool isEvent(String name) => eventName == name;
 
   bool isForMode(int modeId) {
@@ -126,5 +159,5 @@ class FlutterEvent {
   }
 
   @override
-  String toString() => 'FlutterEvent(eventName: $eventName, payload: $_payloadJson)';
+  String toString() => 'FlutterEvent(eventName: $eventName, payload: $_rawPayload)';
 }
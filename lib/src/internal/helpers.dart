@@ -2,6 +2,7 @@ import 'dart:math';
 
 import 'package:flutter/services.dart';
 import 'package:scandit_flutter_datacapture_core/src/function_names.dart';
+import 'package:scandit_flutter_datacapture_core/src/internal/core_message_codec.dart';
 import 'package:scandit_flutter_datacapture_core/src/internal/generated/core_method_handler.dart';
 
 String generateIdentifier() {
@@ -24,5 +25,5 @@ String generateIdentifier() {
 }
 
 CoreMethodHandler getCoreMethodHandler() {
-  return CoreMethodHandler(const MethodChannel(FunctionNames.methodsChannelName));
+  return CoreMethodHandler(const MethodChannel(FunctionNames.methodsChannelName, coreMethodCodec));
 }
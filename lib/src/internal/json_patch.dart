@@ -0,0 +1,101 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+
+import 'dart:convert';
+import 'dart:io';
+
+import 'package:flutter/services.dart';
+
+typedef JsonPatchCall = Future<dynamic> Function(Map<String, dynamic> params);
+
+/// Sends a json document as a JSON-Patch style delta against the version the native side
+/// received last. The first update, and every update after a mismatch, sends the full json.
+///
+/// Only the Android plugin understands patches, other platforms always get the full json.
+class JsonPatchSender {
+  static const String patchMismatchErrorCode = 'JSON_PATCH_MISMATCH';
+
+  final String argumentName;
+  final bool _enabled;
+
+  dynamic _snapshot;
+  int _version = 0;
+
+  JsonPatchSender(this.argumentName) : _enabled = Platform.isAndroid;
+
+  Future<dynamic> send(String encodedJson, JsonPatchCall call, {Map<String, dynamic> params = const {}}) async {
+    if (!_enabled) {
+      return call({...params, argumentName: encodedJson});
+    }
+
+    var document = jsonDecode(encodedJson);
+    var baseVersion = _version;
+    var previous = _snapshot;
+
+    // The snapshot moves on before the call returns, so updates sent back to back patch each other.
+    _snapshot = document;
+    _version = baseVersion + 1;
+
+    if (previous != null) {
+      var patch = jsonEncode(diffJson(previous, document));
+      if (patch.length < encodedJson.length) {
+        try {
+          return await call({
+            ...params,
+            '${argumentName}Patch': patch,
+            'baseVersion': baseVersion,
+            'version': _version,
+          });
+        } on PlatformException catch (error) {
+          if (error.code != patchMismatchErrorCode) rethrow;
+          _version = _version + 1;
+        }
+      }
+    }
+
+    return call({...params, argumentName: encodedJson, 'version': _version});
+  }
+}
+
+/// Returns the add, remove and replace operations that turn [from] into [to]. Lists are only
+/// patched per element when their length did not change, otherwise they are replaced.
+List<Map<String, dynamic>> diffJson(dynamic from, dynamic to, [String path = '']) {
+  var operations = <Map<String, dynamic>>[];
+  _diff(from, to, path, operations);
+  return operations;
+}
+
+void _diff(dynamic from, dynamic to, String path, List<Map<String, dynamic>> operations) {
+  if (from is Map && to is Map) {
+    for (var key in from.keys) {
+      if (!to.containsKey(key)) {
+        operations.add({'op': 'remove', 'path': '$path/${_escape(key.toString())}'});
+      }
+    }
+    for (var entry in to.entries) {
+      var childPath = '$path/${_escape(entry.key.toString())}';
+      if (!from.containsKey(entry.key)) {
+        operations.add({'op': 'add', 'path': childPath, 'value': entry.value});
+      } else {
+        _diff(from[entry.key], entry.value, childPath, operations);
+      }
+    }
+    return;
+  }
+
+  if (from is List && to is List && from.length == to.length) {
+    for (var i = 0; i < to.length; i++) {
+      _diff(from[i], to[i], '$path/$i', operations);
+    }
+    return;
+  }
+
+  if (from is Map || from is List || from != to) {
+    operations.add({'op': 'replace', 'path': path, 'value': to});
+  }
+}
+
+String _escape(String key) => key.replaceAll('~', '~0').replaceAll('/', '~1');
@@ -281,7 +281,9 @@ class _CameraController extends BaseController {
     if (_stateChangeSubscription != null) return;
     _stateChangeSubscription = CorePluginEvents.coreEventStream.asFlutterEvents().listen((event) {
       if (event.isEvent(FunctionNames.eventFrameSourceStateChanged)) {
-        var state = FrameSourceState.fromJSON(event.payload['state'] as String);
+        // Binary payloads carry the typed state, JSON payloads its name.
+        var rawState = event.payload['state'];
+        var state = rawState is FrameSourceState ? rawState : FrameSourceState.fromJSON(rawState as String);
         var cameraPosition = CameraPosition.fromJSON(event.payload['cameraPosition'] as String);
         if (cameraPosition != camera.position) {
           // This event is for the other camera most probably, so we can ignore it
@@ -309,7 +311,8 @@ class _CameraController extends BaseController {
   }
 
   void _handleTorchStateChanged(FlutterEvent event) {
-    var state = TorchState.fromJSON(event.payload['state'] as String);
+    var rawState = event.payload['state'];
+    var state = rawState is TorchState ? rawState : TorchState.fromJSON(rawState as String);
     if (camera._isActiveCamera) {
       camera._desiredTorchState = state;
       _notifyTorchListeners(state);
@@ -111,7 +111,9 @@ class _ImageFrameSourceController extends BaseController {
     if (_stateChangeSubscription != null) return;
     _stateChangeSubscription = CorePluginEvents.coreEventStream.asFlutterEvents().listen((event) {
       if (event.isEvent(FunctionNames.eventFrameSourceStateChanged)) {
-        var state = FrameSourceState.fromJSON(event.payload['state'] as String);
+        // Binary payloads carry the typed state, JSON payloads its name.
+        var rawState = event.payload['state'];
+        var state = rawState is FrameSourceState ? rawState : FrameSourceState.fromJSON(rawState as String);
         _notifyCameraListeners(state);
       }
     });
@@ -0,0 +1,131 @@
+/*
+ * This file is part of the Scandit Data Capture SDK
+ *
+ * Copyright (C) 2026- Scandit AG. All rights reserved.
+ */
+
+import 'dart:typed_data';
+
+import 'package:flutter_test/flutter_test.dart';
+import 'package:scandit_flutter_datacapture_core/src/common.dart' as common;
+import 'package:scandit_flutter_datacapture_core/src/context_status.dart';
+import 'package:scandit_flutter_datacapture_core/src/internal/core_message_codec.dart';
+import 'package:scandit_flutter_datacapture_core/src/source/frame_source_state.dart';
+import 'package:scandit_flutter_datacapture_core/src/source/torch_state.dart';
+
+// The same bytes as FlutterCoreMessageCodecTest of the Android plugin, keep the two in sync.
+const String point = '8000000000000000000000000000f83f00000000000002c0';
+const String sizeInList = '0c0201810000000000000000000074400000000000006e40';
+const String quadrilateral = '8200000000000000'
+    '0000000000000000'
+    '0000000000000000'
+    '0000000000002440'
+    '0000000000000000'
+    '0000000000002440'
+    '0000000000001440'
+    '0000000000000000'
+    '0000000000001440';
+const String marginsWithUnit = '8300000000000000'
+    '0000000000002040'
+    '0000000000003040'
+    '000000000000e03f'
+    '0000000000000000'
+    '00010200';
+const String states = '0c03840485028408';
+const String contextStatus = '860401000001026f6b';
+
+void main() {
+  const codec = CoreMessageCodec();
+
+  String encode(Object value) {
+    final data = codec.encodeMessage(value)!;
+    return data.buffer
+        .asUint8List(data.offsetInBytes, data.lengthInBytes)
+        .map((byte) => byte.toRadixString(16).padLeft(2, '0'))
+        .join();
+  }
+
+  Object? decode(String hex) {
+    final bytes = Uint8List(hex.length ~/ 2);
+    for (var i = 0; i < bytes.length; i++) {
+      bytes[i] = int.parse(hex.substring(2 * i, 2 * i + 2), radix: 16);
+    }
+    return codec.decodeMessage(ByteData.sublistView(bytes));
+  }
+
+  void expectPoint(common.Point actual, double x, double y) {
+    expect(actual.x, x);
+    expect(actual.y, y);
+  }
+
+  void expectSide(common.DoubleWithUnit actual, double value, common.MeasureUnit unit) {
+    expect(actual.value, value);
+    expect(actual.unit, unit);
+  }
+
+  test('writes and reads points', () {
+    expect(encode(const common.Point(1.5, -2.25)), point);
+
+    expectPoint(decode(point) as common.Point, 1.5, -2.25);
+  });
+
+  test('aligns coordinates to the start of the message', () {
+    expect(encode([true, const common.Size(320, 240)]), sizeInList);
+
+    final list = decode(sizeInList) as List;
+    expect(list[0], true);
+    final size = list[1] as common.Size;
+    expect(size.width, 320);
+    expect(size.height, 240);
+  });
+
+  test('writes and reads quadrilaterals', () {
+    const value = common.Quadrilateral(
+        common.Point(0, 0), common.Point(10, 0), common.Point(10, 5), common.Point(0, 5));
+    expect(encode(value), quadrilateral);
+
+    final decoded = decode(quadrilateral) as common.Quadrilateral;
+    expectPoint(decoded.topLeft, 0, 0);
+    expectPoint(decoded.topRight, 10, 0);
+    expectPoint(decoded.bottomRight, 10, 5);
+    expectPoint(decoded.bottomLeft, 0, 5);
+  });
+
+  test('writes and reads margins with unit', () {
+    const value = common.MarginsWithUnit(
+        common.DoubleWithUnit(8, common.MeasureUnit.dip),
+        common.DoubleWithUnit(16, common.MeasureUnit.pixel),
+        common.DoubleWithUnit(0.5, common.MeasureUnit.fraction),
+        common.DoubleWithUnit(0, common.MeasureUnit.dip));
+    expect(encode(value), marginsWithUnit);
+
+    final decoded = decode(marginsWithUnit) as common.MarginsWithUnit;
+    expectSide(decoded.left, 8, common.MeasureUnit.dip);
+    expectSide(decoded.top, 16, common.MeasureUnit.pixel);
+    expectSide(decoded.right, 0.5, common.MeasureUnit.fraction);
+    expectSide(decoded.bottom, 0, common.MeasureUnit.dip);
+  });
+
+  test('writes enums as their index', () {
+    final value = [FrameSourceState.standby, TorchState.auto, FrameSourceState.shuttingDown];
+    expect(encode(value), states);
+
+    expect(decode(states), value);
+  });
+
+  test('writes and reads context statuses', () {
+    final value = ContextStatus.fromJSON({'code': 260, 'message': 'ok', 'isValid': true});
+    expect(encode(value), contextStatus);
+
+    final decoded = decode(contextStatus) as ContextStatus;
+    expect(decoded.code, 260);
+    expect(decoded.message, 'ok');
+    expect(decoded.isValid, true);
+  });
+
+  test('leaves standard values to the standard codec', () {
+    final value = {'zoom': 2.5, 'views': [1, 2], 'name': 'camera'};
+
+    expect(decode(encode(value)), value);
+  });
+}